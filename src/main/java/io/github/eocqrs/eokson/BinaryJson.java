@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+
+/**
+ * JSON encoded in binary Smile or CBOR.
+ * <p>
+ * Binary bytes are decoded into a tree once, on first access, and
+ * {@link Jocument} reads the tree as is, so all its accessors work over
+ * binary JSON, without any text in between. Textual bytes are written from
+ * the tree only when they are read. Encode a document back with
+ * {@link Jocument#smile()} or {@link Jocument#cbor()}, e.g.
+ * <pre>
+ * {@code
+ * Jocument event = new Jocument(
+ *     new BinaryJson(message, BinaryJson.Format.SMILE)
+ * );
+ * String type = event.leaf("type");
+ * }
+ * </pre>
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class BinaryJson extends JsonEnvelope {
+
+  /**
+   * Ctor.
+   *
+   * @param bytes Binary bytes
+   * @param format Binary format
+   */
+  public BinaryJson(final byte[] bytes, final Format format) {
+    this(bytes, format, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param bytes Binary bytes
+   * @param format Binary format
+   * @param engine JSON Engine
+   */
+  public BinaryJson(
+    final byte[] bytes,
+    final Format format,
+    final JsonEngine engine
+  ) {
+    this(new BytesJson(bytes), format, engine);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param stream Binary bytes in a stream, which is read once
+   * @param format Binary format
+   */
+  public BinaryJson(final InputStream stream, final Format format) {
+    this(() -> stream, format, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param binary Source of binary bytes
+   * @param format Binary format
+   * @param engine JSON Engine
+   */
+  private BinaryJson(
+    final Json binary,
+    final Format format,
+    final JsonEngine engine
+  ) {
+    super(
+      new NodeJson(
+        () -> new Unchecked<>(
+          () -> format.mapper(engine).readTree(binary.bytes())
+        ).value(),
+        engine
+      )
+    );
+  }
+
+  /**
+   * Binary format of JSON.
+   *
+   * @since 0.4.0
+   */
+  public enum Format {
+    /**
+     * Smile.
+     */
+    SMILE {
+      @Override
+      ObjectMapper mapper(final JsonEngine engine) {
+        return engine.smile();
+      }
+    },
+    /**
+     * CBOR.
+     */
+    CBOR {
+      @Override
+      ObjectMapper mapper(final JsonEngine engine) {
+        return engine.cbor();
+      }
+    };
+
+    /**
+     * Mapper of the format.
+     *
+     * @param engine JSON Engine
+     * @return Mapper
+     */
+    abstract ObjectMapper mapper(JsonEngine engine);
+  }
+}
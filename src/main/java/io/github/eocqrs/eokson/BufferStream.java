@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import ru.l3r8y.annotations.Mutable;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Stream over byte buffers.
+ * <p>
+ * It reads its own duplicates of the buffers, so positions of the given
+ * buffers are never moved and many streams can read them at once.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@Mutable
+final class BufferStream extends InputStream {
+
+  /**
+   * Buffers to read.
+   */
+  private final ByteBuffer[] buffers;
+  /**
+   * Index of the current buffer.
+   */
+  private int current;
+
+  /**
+   * Ctor.
+   *
+   * @param bufs Buffers
+   */
+  BufferStream(final List<ByteBuffer> bufs) {
+    super();
+    this.buffers = new ByteBuffer[bufs.size()];
+    for (int idx = 0; idx < this.buffers.length; ++idx) {
+      this.buffers[idx] = bufs.get(idx).duplicate();
+    }
+  }
+
+  @Override
+  public int read() {
+    final int next;
+    if (this.exhausted()) {
+      next = -1;
+    } else {
+      next = this.buffers[this.current].get() & 0xFF;
+    }
+    return next;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int off, final int len) {
+    final int read;
+    if (len == 0) {
+      read = 0;
+    } else if (this.exhausted()) {
+      read = -1;
+    } else {
+      final ByteBuffer buffer = this.buffers[this.current];
+      final int count = Math.min(len, buffer.remaining());
+      buffer.get(bytes, off, count);
+      read = count;
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(final long count) {
+    long skipped = 0L;
+    while (skipped < count && !this.exhausted()) {
+      final ByteBuffer buffer = this.buffers[this.current];
+      final int step = (int) Math.min(count - skipped, buffer.remaining());
+      buffer.position(buffer.position() + step);
+      skipped += step;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    long left = 0L;
+    for (int idx = this.current; idx < this.buffers.length; ++idx) {
+      left += this.buffers[idx].remaining();
+    }
+    return (int) Math.min(left, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Moves to the next buffer with remaining bytes, if needed.
+   *
+   * @return True if no bytes are left
+   */
+  private boolean exhausted() {
+    while (this.current < this.buffers.length
+      && !this.buffers[this.current].hasRemaining()) {
+      ++this.current;
+    }
+    return this.current == this.buffers.length;
+  }
+}
@@ -22,13 +22,19 @@
 
 package io.github.eocqrs.eokson;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * Array of Bytes.
+ * <p>
+ * The stream is read straight into an array, presized by the count of
+ * bytes the stream tells to be available, so in-memory and mapped JSONs
+ * are read by one copy. The array is owned by this object and is not
+ * copied again: read it once, with {@link #value()} or {@link #buffer()}.
  */
 final class ByteArray {
 
@@ -52,19 +58,8 @@ final class ByteArray {
    * @param stream InputStream
    */
   ByteArray(final InputStream stream) {
-    final ByteArrayOutputStream output = new ByteArrayOutputStream();
-    try {
-      final byte[] data = new byte[1024];
-      while (true) {
-        final int size = stream.read(data, 0, data.length);
-        if (size == -1) {
-          stream.close();
-          break;
-        }
-        output.write(data, 0, size);
-      }
-      output.flush();
-      this.bytes = output.toByteArray();
+    try (stream) {
+      this.bytes = ByteArray.read(stream);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -76,6 +71,36 @@ final class ByteArray {
    * @return All bytes
    */
   public byte[] value() {
-    return this.bytes.clone();
+    return this.bytes;
+  }
+
+  /**
+   * Read-only view of the bytes.
+   *
+   * @return Buffer
+   */
+  public ByteBuffer buffer() {
+    return ByteBuffer.wrap(this.bytes).asReadOnlyBuffer();
+  }
+
+  /**
+   * Read all bytes of the stream.
+   *
+   * @param stream Stream
+   * @return Bytes
+   * @throws IOException If fails
+   */
+  private static byte[] read(final InputStream stream) throws IOException {
+    final byte[] head = new byte[stream.available()];
+    final int read = stream.readNBytes(head, 0, head.length);
+    final byte[] tail = stream.readAllBytes();
+    final byte[] all;
+    if (tail.length == 0 && read == head.length) {
+      all = head;
+    } else {
+      all = Arrays.copyOf(head, read + tail.length);
+      System.arraycopy(tail, 0, all, read, tail.length);
+    }
+    return all;
   }
 }
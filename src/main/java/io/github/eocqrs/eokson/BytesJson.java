@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.OptionalLong;
+
+/**
+ * JSON in an array of bytes.
+ * <p>
+ * Every {@link #bytes()} call gives a new stream over the same array, so
+ * it can be read by many threads at once. The array is never copied.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class BytesJson implements Json {
+
+  /**
+   * Bytes.
+   */
+  private final byte[] array;
+
+  /**
+   * Ctor.
+   *
+   * @param bytes Bytes
+   */
+  BytesJson(final byte[] bytes) {
+    this.array = bytes;
+  }
+
+  @Override
+  public InputStream bytes() {
+    return new ByteArrayInputStream(this.array);
+  }
+
+  @Override
+  public OptionalLong knownLength() {
+    return OptionalLong.of(this.array.length);
+  }
+
+  @Override
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(this.array).asReadOnlyBuffer();
+  }
+
+  @Override
+  public long writeTo(final OutputStream out) throws IOException {
+    out.write(this.array);
+    return this.array.length;
+  }
+
+  @Override
+  public long writeTo(final WritableByteChannel channel) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(this.array);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    return this.array.length;
+  }
+}
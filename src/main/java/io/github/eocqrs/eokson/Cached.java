@@ -19,29 +19,66 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package io.github.eocqrs.eokson;
 
 import ru.l3r8y.annotations.Mutable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Cached.
+ * <p>
+ * The value is computed on first access and safely published to all
+ * threads which read it afterwards. Reads of a computed value take no
+ * locks. The supplier runs at most once at a time: the thread, which wins
+ * the race, computes the value and others wait for it. If the supplier
+ * fails, the failure is given to all of them and the next access tries
+ * again.
+ * <p>
+ * By default the value is held forever. With {@link Retention#SOFT} or
+ * {@link Retention#WEAK} it can be reclaimed by garbage collector and
+ * is computed again on the next access.
  *
  * @param <T> Cached type
  */
 @Mutable
 final class Cached<T> {
 
+  /**
+   * Handle of the state.
+   */
+  private static final VarHandle STATE;
+
+  static {
+    try {
+      STATE = MethodHandles.lookup()
+        .findVarHandle(Cached.class, "state", Object.class);
+    } catch (final ReflectiveOperationException ex) {
+      throw new ExceptionInInitializerError(ex);
+    }
+  }
+
   /**
    * Supplier.
    */
   private final Supplier<T> scalar;
   /**
-   * Value.
+   * How the value is kept.
+   */
+  private final Function<T, Supplier<T>> keeper;
+  /**
+   * State: {@code null}, pending {@link FutureTask} or kept
+   * {@link Supplier} of the value.
    */
-  private T value;
+  @SuppressWarnings("unused")
+  private Object state;
 
   /**
    * Ctor.
@@ -49,7 +86,29 @@ final class Cached<T> {
    * @param scalar Supplier
    */
   Cached(final Supplier<T> scalar) {
+    this(scalar, Retention.STRONG);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param scalar Supplier
+   * @param rtn Retention of the value
+   */
+  Cached(final Supplier<T> scalar, final Retention rtn) {
+    this(scalar, rtn::kept);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param scalar Supplier
+   * @param kpr How the value is kept: supplier of the kept value, which
+   *  gives {@code null} once it is reclaimed
+   */
+  Cached(final Supplier<T> scalar, final Function<T, Supplier<T>> kpr) {
     this.scalar = scalar;
+    this.keeper = kpr;
   }
 
   /**
@@ -57,10 +116,136 @@ final class Cached<T> {
    *
    * @return Cached type as value
    */
+  @SuppressWarnings("unchecked")
   public T value() {
-    if (this.value == null) {
-      this.value = this.scalar.get();
+    T result = null;
+    boolean done = false;
+    while (!done) {
+      final Object current = Cached.STATE.getAcquire(this);
+      if (current instanceof FutureTask) {
+        result = Cached.awaited((FutureTask<T>) current);
+        done = true;
+      } else {
+        if (current != null) {
+          result = ((Supplier<T>) current).get();
+          done = result != null;
+        }
+        if (!done) {
+          final FutureTask<T> task = new FutureTask<>(this.scalar::get);
+          if (Cached.STATE.compareAndSet(this, current, task)) {
+            result = this.computed(task);
+            done = true;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Tells if the value is already computed and still kept.
+   *
+   * @return Is computed or not
+   */
+  @SuppressWarnings("unchecked")
+  public boolean known() {
+    final Object current = Cached.STATE.getAcquire(this);
+    return current instanceof Supplier
+      && ((Supplier<T>) current).get() != null;
+  }
+
+  /**
+   * Run the task, which this thread installed, and keep its value.
+   *
+   * @param task Installed task
+   * @return Value
+   */
+  private T computed(final FutureTask<T> task) {
+    task.run();
+    try {
+      final T result = Cached.awaited(task);
+      if (result == null) {
+        Cached.STATE.setRelease(this, null);
+      } else {
+        Cached.STATE.setRelease(this, this.keeper.apply(result));
+      }
+      return result;
+    } catch (final RuntimeException | Error ex) {
+      Cached.STATE.setRelease(this, null);
+      throw ex;
     }
-    return this.value;
+  }
+
+  /**
+   * Wait for the value of the task.
+   *
+   * @param task Task
+   * @param <T> Type of value
+   * @return Value
+   */
+  private static <T> T awaited(final FutureTask<T> task) {
+    try {
+      return task.get();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    } catch (final ExecutionException ex) {
+      final Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * How a computed value is held.
+   *
+   * @since 0.4.0
+   */
+  enum Retention {
+
+    /**
+     * Held forever.
+     */
+    STRONG {
+      @Override
+      <T> Supplier<T> kept(final T value) {
+        return () -> value;
+      }
+    },
+
+    /**
+     * Held until the heap runs low.
+     */
+    SOFT {
+      @Override
+      <T> Supplier<T> kept(final T value) {
+        return new SoftReference<>(value)::get;
+      }
+    },
+
+    /**
+     * Held while it is strongly reachable from elsewhere.
+     */
+    WEAK {
+      @Override
+      <T> Supplier<T> kept(final T value) {
+        return new WeakReference<>(value)::get;
+      }
+    };
+
+    /**
+     * Keep the value.
+     *
+     * @param value Value
+     * @param <T> Type of value
+     * @return Supplier of the kept value, which gives {@code null} once
+     *  it is reclaimed
+     */
+    abstract <T> Supplier<T> kept(T value);
   }
 }
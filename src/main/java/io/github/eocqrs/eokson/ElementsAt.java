@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Elements of the JSON array at the path, read lazily by streaming.
+ * <p>
+ * The parser skips everything before the array and reads one element at
+ * a time, so memory is bounded by the largest element, not by the whole
+ * JSON. The root of the JSON can be an array. If there is no array at the
+ * path, the stream is empty. Close the stream to close the parser, if it
+ * is not read to the end.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class ElementsAt implements Scalar<Stream<Jocument>> {
+
+  /**
+   * Path to the array.
+   */
+  private final JsonPointer path;
+  /**
+   * JSON.
+   */
+  private final Json json;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+
+  /**
+   * Ctor.
+   *
+   * @param pth Path to the array
+   * @param jsn JSON
+   */
+  ElementsAt(final JsonPointer pth, final Json jsn) {
+    this(pth, jsn, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pth Path to the array
+   * @param jsn JSON
+   * @param eng JSON Engine
+   */
+  ElementsAt(final JsonPointer pth, final Json jsn, final JsonEngine eng) {
+    this.path = pth;
+    this.json = jsn;
+    this.engine = eng;
+  }
+
+  @Override
+  public Stream<Jocument> value() {
+    final JsonParser parser = new Unchecked<>(
+      () -> this.engine.mapper().createParser(this.json.bytes())
+    ).value();
+    final boolean found;
+    try {
+      found = new Unchecked<>(
+        () -> StreamedNodeAt.seek(parser, this.path, true)
+      ).value();
+    } catch (final UncheckedIOException ex) {
+      ElementsAt.close(parser);
+      throw ex;
+    }
+    final Stream<Jocument> elements;
+    if (found && parser.currentToken() == JsonToken.START_ARRAY) {
+      elements = StreamSupport.stream(new Elements(parser, this.engine), false)
+        .onClose(() -> ElementsAt.close(parser));
+    } else {
+      ElementsAt.close(parser);
+      elements = Stream.empty();
+    }
+    return elements;
+  }
+
+  /**
+   * Close the parser.
+   *
+   * @param parser Parser
+   */
+  private static void close(final JsonParser parser) {
+    try {
+      parser.close();
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Elements of the array, the parser stays at.
+   *
+   * @since 0.4.0
+   */
+  private static final class Elements
+    extends Spliterators.AbstractSpliterator<Jocument> {
+
+    /**
+     * Parser, which stays at the start of the array.
+     */
+    private final JsonParser parser;
+    /**
+     * JSON Engine.
+     */
+    private final JsonEngine engine;
+
+    /**
+     * Ctor.
+     *
+     * @param prsr Parser
+     * @param eng JSON Engine
+     */
+    Elements(final JsonParser prsr, final JsonEngine eng) {
+      super(
+        Long.MAX_VALUE,
+        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE
+      );
+      this.parser = prsr;
+      this.engine = eng;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Jocument> action) {
+      final JsonToken token = new Unchecked<>(this.parser::nextToken).value();
+      final boolean next = token != null && token != JsonToken.END_ARRAY;
+      if (next) {
+        final JsonNode element = new Unchecked<JsonNode>(
+          () -> this.engine.mapper().readTree(this.parser)
+        ).value();
+        action.accept(
+          new Jocument(new NodeJson(() -> element, this.engine), this.engine)
+        );
+      } else {
+        ElementsAt.close(this.parser);
+      }
+      return next;
+    }
+  }
+}
@@ -22,13 +22,24 @@
 
 package io.github.eocqrs.eokson;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * JSON Document.
@@ -49,6 +60,9 @@ import java.util.Optional;
  * }
  * }
  * </pre>
+ * The original JSON is parsed once, on first access, and the parsed tree
+ * is shared by all accessors afterwards. The tree is safely published,
+ * so a single {@code Jocument} can be read from many threads.
  *
  * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
  * @since 0.0.0
@@ -56,35 +70,66 @@ import java.util.Optional;
 public final class Jocument implements Json {
 
   /**
-   * Object Mapper.
+   * Origin.
    */
-  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private final Json origin;
   /**
-   * All NULL bytes.
+   * Parsed once tree.
    */
-  private static final byte[] NULL_BYTES = {
-    (byte) 110, (byte) 117, (byte) 108, (byte) 108
-  };
+  private final Cached<ObjectNode> tree;
   /**
-   * Origin.
+   * Unchecked Node, parsed once.
    */
-  private final Json origin;
+  private final Unchecked<ObjectNode> jackson;
   /**
-   * Unchecked Node.
+   * Read leaves by streaming, until the tree is built.
    */
-  private final Unchecked<ObjectNode> jackson;
+  private final boolean streamed;
+  /**
+   * Is missing or not.
+   */
+  private final Scalar<Boolean> missing;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
 
   /**
    * Ctor.
+   * <p>
+   * If the original JSON is already backed by a tree, e.g. it is
+   * a {@link MutableJson} or a {@link JsonOf} over a node, the tree
+   * is read as is, without writing and parsing bytes.
    *
    * @param orgn Original JSON
    */
   public Jocument(final Json orgn) {
+    this(orgn, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   * <p>
+   * The JSON is parsed and written by the engine, and so are nested
+   * JSONs and elements of this one.
+   *
+   * @param orgn Original JSON
+   * @param eng JSON Engine
+   */
+  public Jocument(final Json orgn, final JsonEngine eng) {
     this(
       orgn,
-      new Unchecked<>(
-        () -> MAPPER.readValue(orgn.bytes(), ObjectNode.class)
-      )
+      new Cached<>(
+        () -> new TreeOf(orgn).value()
+          .filter(JsonNode::isObject)
+          .map(ObjectNode.class::cast)
+          .orElseGet(
+            () -> new Unchecked<>(
+              () -> eng.mapper().readValue(orgn.bytes(), ObjectNode.class)
+            ).value()
+          )
+      ),
+      eng
     );
   }
 
@@ -92,11 +137,68 @@ public final class Jocument implements Json {
    * Ctor.
    *
    * @param orgn Original JSON
-   * @param node Object node
+   * @param node Parsed once object node of the original JSON
+   * @param eng JSON Engine
    */
-  private Jocument(final Json orgn, final Unchecked<ObjectNode> node) {
+  private Jocument(
+    final Json orgn,
+    final Cached<ObjectNode> node,
+    final JsonEngine eng
+  ) {
+    this(
+      orgn,
+      node,
+      false,
+      () -> new TreeOf(orgn).value()
+        .map(tree -> tree.isMissingNode() || tree.isNull())
+        .orElseGet(() -> !node.known() && new MissingBytes(orgn).value()),
+      eng
+    );
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param orgn Original JSON
+   * @param node Parsed once object node
+   * @param strm Read leaves by streaming, until the tree is built
+   * @param absent Is missing or not
+   * @param eng JSON Engine
+   */
+  private Jocument(
+    final Json orgn,
+    final Cached<ObjectNode> node,
+    final boolean strm,
+    final Scalar<Boolean> absent,
+    final JsonEngine eng
+  ) {
     this.origin = orgn;
-    this.jackson = node;
+    this.tree = node;
+    this.jackson = new Unchecked<>(node::value);
+    this.streamed = strm;
+    this.missing = absent;
+    this.engine = eng;
+  }
+
+  /**
+   * This JSON, which reads leaves by streaming over its bytes.
+   * <p>
+   * Until the tree is built by {@link #objectNode()}, {@link #at(String)},
+   * {@link #textual()} or {@link #pretty()}, every leaf lookup walks
+   * the tokens of the original JSON, skips subtrees which do not match
+   * the path and stops as soon as the path is resolved. It is cheaper than
+   * building the whole tree, when only one or two leaves are read from
+   * a large JSON. Once the tree is built, leaves are read from the tree.
+   * If a field is duplicated, the first one wins in streamed mode, while
+   * the tree keeps the last one.
+   * The original JSON must be readable more than once.
+   *
+   * @return Streamed JSON
+   */
+  public Jocument streamed() {
+    return new Jocument(
+      this.origin, this.tree, true, this.missing, this.engine
+    );
   }
 
   /**
@@ -106,7 +208,7 @@ public final class Jocument implements Json {
    */
   public String textual() {
     return new Unchecked<>(
-      () -> MAPPER.writeValueAsString(this.jackson.value())
+      () -> this.engine.mapper().writeValueAsString(this.jackson.value())
     ).value();
   }
 
@@ -117,11 +219,35 @@ public final class Jocument implements Json {
    */
   public String pretty() {
     return new Unchecked<>(
-      () -> MAPPER.writerWithDefaultPrettyPrinter()
+      () -> this.engine.mapper().writerWithDefaultPrettyPrinter()
         .writeValueAsString(this.jackson.value())
     ).value();
   }
 
+  /**
+   * JSON encoded in binary Smile.
+   *
+   * @return Smile bytes
+   * @see BinaryJson
+   */
+  public byte[] smile() {
+    return new Unchecked<>(
+      () -> this.engine.smile().writeValueAsBytes(this.jackson.value())
+    ).value();
+  }
+
+  /**
+   * JSON encoded in binary CBOR.
+   *
+   * @return CBOR bytes
+   * @see BinaryJson
+   */
+  public byte[] cbor() {
+    return new Unchecked<>(
+      () -> this.engine.cbor().writeValueAsBytes(this.jackson.value())
+    ).value();
+  }
+
   /**
    * JSON as an array of bytes.
    *
@@ -131,6 +257,18 @@ public final class Jocument implements Json {
     return new ByteArray(this.bytes()).value();
   }
 
+  /**
+   * JSON as a read-only buffer.
+   * <p>
+   * The buffer can not be changed, so it can be handed to many readers
+   * without defensive copies.
+   *
+   * @return Read-only byte buffer
+   */
+  public ByteBuffer byteBuffer() {
+    return this.asByteBuffer();
+  }
+
   /**
    * Get a leaf of type {@code String}, boxed in {@code Optional} of this JSON.
    *
@@ -138,10 +276,17 @@ public final class Jocument implements Json {
    * @return Optional leaf value
    */
   public Optional<String> optLeaf(final String path) {
-    return new NodeAt(
-      path,
-      this.jackson
-    ).value().map(JsonNode::textValue);
+    return this.optLeaf(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code String}, boxed in {@code Optional} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public Optional<String> optLeaf(final Pointer path) {
+    return this.node(path).map(JsonNode::textValue);
   }
 
   /**
@@ -152,6 +297,17 @@ public final class Jocument implements Json {
    * @throws IllegalArgumentException if leaf does not exist
    */
   public String leaf(final String path) {
+    return this.leaf(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code String} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return String leaf value, if the leaf exists
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public String leaf(final Pointer path) {
     return this.optLeaf(path).orElseThrow(
       () -> new IllegalArgumentException(
         "No such field of specified type: " + path
@@ -166,10 +322,17 @@ public final class Jocument implements Json {
    * @return Optional leaf value
    */
   public Optional<Integer> optLeafAsInt(final String path) {
-    return new NodeAt(
-      path,
-      this.jackson
-    ).value().map(JsonNode::intValue);
+    return this.optLeafAsInt(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code Integer}, boxed in {@code Optional} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public Optional<Integer> optLeafAsInt(final Pointer path) {
+    return this.node(path).map(JsonNode::intValue);
   }
 
   /**
@@ -180,7 +343,18 @@ public final class Jocument implements Json {
    * @throws IllegalArgumentException if leaf does not exist
    */
   public int leafAsInt(final String path) {
-    return this.optLeafAsInt(path).orElseThrow(
+    return this.leafAsInt(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code int} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Int leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public int leafAsInt(final Pointer path) {
+    return this.optIntLeaf(path).orElseThrow(
       () -> new IllegalArgumentException(
         "No such field of specified type: " + path
       )
@@ -194,10 +368,17 @@ public final class Jocument implements Json {
    * @return Optional leaf value
    */
   public Optional<Double> optLeafAsDouble(final String path) {
-    return new NodeAt(
-      path,
-      this.jackson
-    ).value().map(JsonNode::doubleValue);
+    return this.optLeafAsDouble(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code double}, boxed in {@code Optional} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public Optional<Double> optLeafAsDouble(final Pointer path) {
+    return this.node(path).map(JsonNode::doubleValue);
   }
 
   /**
@@ -208,7 +389,207 @@ public final class Jocument implements Json {
    * @throws IllegalArgumentException if leaf does not exist
    */
   public double leafAsDouble(final String path) {
-    return this.optLeafAsDouble(path).orElseThrow(
+    return this.leafAsDouble(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code double} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Double leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public double leafAsDouble(final Pointer path) {
+    return this.optDoubleLeaf(path).orElseThrow(
+      () -> new IllegalArgumentException(
+        "No such field of specified type: " + path
+      )
+    );
+  }
+
+  /**
+   * Get a leaf of type {@code int}, without boxing, of this JSON.
+   *
+   * @param path JSON path
+   * @return Optional leaf value
+   */
+  public OptionalInt optIntLeaf(final String path) {
+    return this.optIntLeaf(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code int}, without boxing, of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public OptionalInt optIntLeaf(final Pointer path) {
+    final OptionalInt leaf;
+    if (this.streaming()) {
+      leaf = new StreamedNodeAt(path.value(), this.origin, this.engine)
+        .intValue();
+    } else {
+      final JsonNode node = this.jackson.value().at(path.value());
+      if (node.isMissingNode()) {
+        leaf = OptionalInt.empty();
+      } else {
+        leaf = OptionalInt.of(node.intValue());
+      }
+    }
+    return leaf;
+  }
+
+  /**
+   * Get a leaf of type {@code long}, without boxing, of this JSON.
+   *
+   * @param path JSON path
+   * @return Optional leaf value
+   */
+  public OptionalLong optLongLeaf(final String path) {
+    return this.optLongLeaf(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code long}, without boxing, of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public OptionalLong optLongLeaf(final Pointer path) {
+    final OptionalLong leaf;
+    if (this.streaming()) {
+      leaf = new StreamedNodeAt(path.value(), this.origin, this.engine)
+        .longValue();
+    } else {
+      final JsonNode node = this.jackson.value().at(path.value());
+      if (node.isMissingNode()) {
+        leaf = OptionalLong.empty();
+      } else {
+        leaf = OptionalLong.of(node.longValue());
+      }
+    }
+    return leaf;
+  }
+
+  /**
+   * Get a leaf of type {@code long} of this JSON.
+   *
+   * @param path JSON path
+   * @return Long leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public long leafAsLong(final String path) {
+    return this.leafAsLong(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code long} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Long leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public long leafAsLong(final Pointer path) {
+    return this.optLongLeaf(path).orElseThrow(
+      () -> new IllegalArgumentException(
+        "No such field of specified type: " + path
+      )
+    );
+  }
+
+  /**
+   * Get a leaf of type {@code double}, without boxing, of this JSON.
+   *
+   * @param path JSON path
+   * @return Optional leaf value
+   */
+  public OptionalDouble optDoubleLeaf(final String path) {
+    return this.optDoubleLeaf(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code double}, without boxing, of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public OptionalDouble optDoubleLeaf(final Pointer path) {
+    final OptionalDouble leaf;
+    if (this.streaming()) {
+      leaf = new StreamedNodeAt(path.value(), this.origin, this.engine)
+        .doubleValue();
+    } else {
+      final JsonNode node = this.jackson.value().at(path.value());
+      if (node.isMissingNode()) {
+        leaf = OptionalDouble.empty();
+      } else {
+        leaf = OptionalDouble.of(node.doubleValue());
+      }
+    }
+    return leaf;
+  }
+
+  /**
+   * Get a leaf of type {@link BigDecimal}, boxed in {@code Optional}
+   * of this JSON.
+   *
+   * @param path JSON path
+   * @return Optional leaf value
+   * @see #optLeafAsBigDecimal(Pointer)
+   */
+  public Optional<BigDecimal> optLeafAsBigDecimal(final String path) {
+    return this.optLeafAsBigDecimal(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@link BigDecimal}, boxed in {@code Optional}
+   * of this JSON.
+   * <p>
+   * The value is decoded right from the number text, so it is exact in
+   * both modes: trees, built by {@link JsonEngine}, keep floating point
+   * numbers as exact decimals.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public Optional<BigDecimal> optLeafAsBigDecimal(final Pointer path) {
+    final Optional<BigDecimal> leaf;
+    if (this.streaming()) {
+      leaf = new StreamedNodeAt(path.value(), this.origin, this.engine)
+        .decimalValue();
+    } else {
+      final JsonNode node = this.jackson.value().at(path.value());
+      if (node.isMissingNode()) {
+        leaf = Optional.empty();
+      } else {
+        leaf = Optional.of(node.decimalValue());
+      }
+    }
+    return leaf;
+  }
+
+  /**
+   * Get a leaf of type {@link BigDecimal} of this JSON.
+   *
+   * @param path JSON path
+   * @return Decimal leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   * @see #optLeafAsBigDecimal(Pointer)
+   */
+  public BigDecimal leafAsBigDecimal(final String path) {
+    return this.leafAsBigDecimal(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@link BigDecimal} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Decimal leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   * @see #optLeafAsBigDecimal(Pointer)
+   */
+  public BigDecimal leafAsBigDecimal(final Pointer path) {
+    return this.optLeafAsBigDecimal(path).orElseThrow(
       () -> new IllegalArgumentException(
         "No such field of specified type: " + path
       )
@@ -222,10 +603,17 @@ public final class Jocument implements Json {
    * @return Optional leaf value
    */
   public Optional<Boolean> optLeafAsBool(final String path) {
-    return new NodeAt(
-      path,
-      this.jackson
-    ).value().map(JsonNode::booleanValue);
+    return this.optLeafAsBool(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code Boolean}, boxed in {@code Optional} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Optional leaf value
+   */
+  public Optional<Boolean> optLeafAsBool(final Pointer path) {
+    return this.node(path).map(JsonNode::booleanValue);
   }
 
   /**
@@ -236,6 +624,17 @@ public final class Jocument implements Json {
    * @throws IllegalArgumentException if field does not exist
    */
   public boolean leafAsBool(final String path) {
+    return this.leafAsBool(new Pointer(path));
+  }
+
+  /**
+   * Get a leaf of type {@code boolean} of this JSON.
+   *
+   * @param path Compiled JSON path
+   * @return Boolean leaf value
+   * @throws IllegalArgumentException if field does not exist
+   */
+  public boolean leafAsBool(final Pointer path) {
     return this.optLeafAsBool(path).orElseThrow(
       () -> new IllegalArgumentException(
         "No such field of specified type: " + path
@@ -243,14 +642,75 @@ public final class Jocument implements Json {
     );
   }
 
+  /**
+   * Tells if there is a node at the path.
+   *
+   * @param path JSON path
+   * @return Is present or not
+   */
+  public boolean has(final String path) {
+    return this.has(new Pointer(path));
+  }
+
+  /**
+   * Tells if there is a node at the path.
+   *
+   * @param path Compiled JSON path
+   * @return Is present or not
+   */
+  public boolean has(final Pointer path) {
+    final boolean present;
+    if (this.streaming()) {
+      present = new StreamedNodeAt(path.value(), this.origin, this.engine)
+        .present();
+    } else {
+      present = new NodeAt(path, this.jackson).value().isPresent();
+    }
+    return present;
+  }
+
+  /**
+   * Resolve many leaves of this JSON together.
+   *
+   * @param paths JSON paths
+   * @return Leaves found by paths
+   * @see #leaves(PathSet)
+   */
+  public Leaves leaves(final String... paths) {
+    return this.leaves(new PathSet(paths));
+  }
+
+  /**
+   * Resolve many leaves of this JSON together.
+   * <p>
+   * In streamed mode, when no tree is built yet, all paths are resolved in
+   * a single pass over the bytes of the original JSON. Otherwise, they are
+   * resolved against the tree.
+   *
+   * @param paths Compiled JSON paths
+   * @return Leaves found by paths
+   */
+  public Leaves leaves(final PathSet paths) {
+    final Map<String, JsonNode> found;
+    if (this.streaming()) {
+      found = new StreamedLeaves(paths.tree(), this.origin, this.engine)
+        .value();
+    } else {
+      found = new HashMap<>(paths.paths().size());
+      paths.tree().resolve(this.jackson.value(), found);
+    }
+    return new Leaves(paths, found);
+  }
+
   /**
    * Represent this JSON as {@link ObjectNode} in case full JSON manipulation
    * capabilities offered by jackson-databind library are needed.
+   * The returned node is a copy, changing it does not affect this JSON.
    *
    * @return This JSON as {@link ObjectNode}
    */
   public ObjectNode objectNode() {
-    return this.jackson.value();
+    return this.jackson.value().deepCopy();
   }
 
   /**
@@ -263,28 +723,168 @@ public final class Jocument implements Json {
    * </pre>
    * This method never returns null. If there is no JSON as specified by the
    * path, a missing JSON is returned, i.e.
-   * {@code returned.isMissing() == true}.
+   * {@code returned.isMissing() == true}. The empty path is this JSON
+   * itself. Unlike leaf paths, a path without the leading slash is not
+   * a field name, it is rejected.
+   * The nested JSON shares the tree of this JSON, nothing is written or
+   * parsed again, unless bytes of the nested JSON are read.
    *
    * @param path Path to the nested JSON
    * @return The nested JSON, which could be missing
+   * @throws IllegalArgumentException If the path is not a JSON Pointer
    */
   public Jocument at(final String path) {
-    return new Jocument(
-      new JsonOf(
-        this.jackson.value()
-          .at(path)
-      )
-    );
+    final JsonPointer pointer;
+    if (path.isEmpty()) {
+      pointer = JsonPointer.empty();
+    } else if (path.charAt(0) == '/') {
+      pointer = new PointerOf(path).value();
+    } else {
+      pointer = JsonPointer.compile(path);
+    }
+    return this.at(pointer);
+  }
+
+  /**
+   * Get a JSON nested within this JSON, specified by compiled path.
+   *
+   * @param path Compiled path to the nested JSON
+   * @return The nested JSON, which could be missing
+   * @see #at(String)
+   */
+  public Jocument at(final Pointer path) {
+    return this.at(path.value());
+  }
+
+  /**
+   * Elements of the root JSON array, read lazily.
+   *
+   * @return Stream of elements, which has to be closed
+   * @see #elements(Pointer)
+   */
+  public Stream<Jocument> elements() {
+    return this.elements(JsonPointer.empty());
+  }
+
+  /**
+   * Elements of the JSON array at the path, read lazily.
+   *
+   * @param path Path to the array
+   * @return Stream of elements, which has to be closed
+   * @see #elements(Pointer)
+   */
+  public Stream<Jocument> elements(final String path) {
+    return this.elements(new Pointer(path));
+  }
+
+  /**
+   * Elements of the JSON array at the path, read lazily.
+   * <p>
+   * If the tree of this JSON is already built, elements are taken from
+   * it. Otherwise the original JSON is streamed: everything before the
+   * array is skipped and elements are parsed one by one, while the stream
+   * is read, so memory is bounded by the largest element. It works for
+   * huge arrays and for JSONs with an array root, which can not be built
+   * as a tree. If there is no array at the path, the stream is empty.
+   *
+   * @param path Compiled path to the array
+   * @return Stream of elements, which has to be closed
+   */
+  public Stream<Jocument> elements(final Pointer path) {
+    return this.elements(path.value());
   }
 
   /**
    * Tells if this JSON is missing.
+   * <p>
+   * A JSON is missing, if it has no bytes or it is {@code null}. For nested
+   * JSONs it is told by the node type, otherwise only first non-whitespace
+   * bytes are read.
    *
    * @return Is missing or not
    */
   public boolean isMissing() {
-    final byte[] bytes = this.byteArray();
-    return bytes.length == 0 || Arrays.equals(bytes, NULL_BYTES);
+    return this.missing.value();
+  }
+
+  /**
+   * JSON nested within this JSON.
+   *
+   * @param path JSON Pointer to the nested JSON
+   * @return The nested JSON, which could be missing
+   */
+  private Jocument at(final JsonPointer path) {
+    final JsonNode node = this.jackson.value().at(path);
+    return new Jocument(new NodeJson(() -> node, this.engine), this.engine);
+  }
+
+  /**
+   * Elements of the JSON array at the path.
+   *
+   * @param path JSON Pointer to the array
+   * @return Stream of elements
+   */
+  private Stream<Jocument> elements(final JsonPointer path) {
+    final Optional<JsonNode> tree = this.tree();
+    final Stream<Jocument> elements;
+    if (tree.isEmpty()) {
+      elements = new ElementsAt(path, this.origin, this.engine).value();
+    } else if (tree.get().at(path).isArray()) {
+      elements = StreamSupport.stream(
+        tree.get().at(path).spliterator(),
+        false
+      ).map(
+        element -> new Jocument(
+          new NodeJson(() -> element, this.engine),
+          this.engine
+        )
+      );
+    } else {
+      elements = Stream.empty();
+    }
+    return elements;
+  }
+
+  /**
+   * Node at the path.
+   *
+   * @param path Compiled JSON path
+   * @return Optional node
+   */
+  private Optional<JsonNode> node(final Pointer path) {
+    final Optional<JsonNode> node;
+    if (this.streaming()) {
+      node = new StreamedNodeAt(path.value(), this.origin, this.engine)
+        .value();
+    } else {
+      node = new NodeAt(path, this.jackson).value();
+    }
+    return node;
+  }
+
+  /**
+   * Tells if leaves are read by streaming right now.
+   *
+   * @return True if no tree is built yet in streamed mode
+   */
+  private boolean streaming() {
+    return this.streamed && !this.tree.known();
+  }
+
+  /**
+   * Tree of this JSON, if it is built or the original JSON is backed
+   * by one.
+   *
+   * @return Node
+   */
+  Optional<JsonNode> tree() {
+    final Optional<JsonNode> node;
+    if (this.tree.known()) {
+      node = Optional.of(this.tree.value());
+    } else {
+      node = new TreeOf(this.origin).value();
+    }
+    return node;
   }
 
   @Override
@@ -292,6 +892,26 @@ public final class Jocument implements Json {
     return this.origin.bytes();
   }
 
+  @Override
+  public OptionalLong knownLength() {
+    return this.origin.knownLength();
+  }
+
+  @Override
+  public ByteBuffer asByteBuffer() {
+    return this.origin.asByteBuffer();
+  }
+
+  @Override
+  public long writeTo(final OutputStream out) throws IOException {
+    return this.origin.writeTo(out);
+  }
+
+  @Override
+  public long writeTo(final WritableByteChannel channel) throws IOException {
+    return this.origin.writeTo(channel);
+  }
+
   @Override
   public String toString() {
     return new String(
@@ -22,12 +22,22 @@
 
 package io.github.eocqrs.eokson;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.OptionalLong;
 
 /**
  * JSON document. This is the type to be implemented by all objects which
  * represent JSONs.
  * In addition to writing custom {@code Json} objects.
+ * <p>
+ * Only {@link #bytes()} has to be implemented. Other methods work through
+ * it by default; implementations, which already hold their bytes in
+ * memory or in a file, override them without extra copies.
  */
 public interface Json {
 
@@ -37,4 +47,51 @@ public interface Json {
    * @return {@link InputStream} with bytes representing this {@code Json}.
    */
   InputStream bytes();
+
+  /**
+   * Count of bytes of this {@code Json}, if it is known without reading
+   * them.
+   *
+   * @return Count of bytes, or empty if it is not known
+   */
+  default OptionalLong knownLength() {
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Tell this {@code Json} to represent itself as a read-only buffer.
+   *
+   * @return Read-only {@link ByteBuffer} with bytes of this {@code Json}
+   */
+  default ByteBuffer asByteBuffer() {
+    return new ByteArray(this).buffer();
+  }
+
+  /**
+   * Write bytes of this {@code Json} into the stream.
+   * <p>
+   * The stream is not closed.
+   *
+   * @param out Stream to write into
+   * @return Count of written bytes
+   * @throws IOException If writing fails
+   */
+  default long writeTo(final OutputStream out) throws IOException {
+    try (InputStream stream = this.bytes()) {
+      return stream.transferTo(out);
+    }
+  }
+
+  /**
+   * Write bytes of this {@code Json} into the channel.
+   * <p>
+   * The channel is not closed.
+   *
+   * @param channel Channel to write into
+   * @return Count of written bytes
+   * @throws IOException If writing fails
+   */
+  default long writeTo(final WritableByteChannel channel) throws IOException {
+    return this.writeTo(Channels.newOutputStream(channel));
+  }
 }
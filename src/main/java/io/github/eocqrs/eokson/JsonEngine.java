@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JSON Engine: parsers, generators and mappers used by the library.
+ * <p>
+ * All readers and writers of JSON take it, either per instance, or
+ * the shared one, which is used by default. Build it from a tuned
+ * {@link JsonFactory} to change how JSON is parsed, e.g.
+ * <pre>
+ * {@code
+ * JsonEngine.share(
+ *     new JsonEngine(
+ *         JsonFactory.builder()
+ *             .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+ *             .streamReadConstraints(
+ *                 StreamReadConstraints.builder()
+ *                     .maxNumberLength(100)
+ *                     .build()
+ *             )
+ *             .build()
+ *     )
+ * );
+ * }
+ * </pre>
+ * Symbol tables of field names and recycled buffers belong to the
+ * factory, so every reader of the same engine shares them. The engine
+ * copies given factories, so it neither changes them, nor sees their
+ * later changes. Trees of JSON keep floating point numbers as exact
+ * {@link java.math.BigDecimal}s, with all digits and trailing zeros.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class JsonEngine {
+
+  /**
+   * Shared engine.
+   */
+  private static final AtomicReference<JsonEngine> SHARED =
+    new AtomicReference<>(new JsonEngine());
+
+  /**
+   * JSON Mapper.
+   */
+  private final ObjectMapper json;
+  /**
+   * XML Mapper.
+   */
+  private final XmlMapper xml;
+  /**
+   * Smile Mapper.
+   */
+  private final ObjectMapper smile;
+  /**
+   * CBOR Mapper.
+   */
+  private final ObjectMapper cbor;
+
+  /**
+   * Ctor.
+   */
+  public JsonEngine() {
+    this(new JsonFactory());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param factory JSON Factory
+   */
+  public JsonEngine(final JsonFactory factory) {
+    this(factory, new XmlFactory());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param factory JSON Factory
+   * @param xfactory XML Factory
+   */
+  public JsonEngine(final JsonFactory factory, final XmlFactory xfactory) {
+    this(factory, xfactory, new SmileFactory(), new CBORFactory());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param factory JSON Factory
+   * @param xfactory XML Factory
+   * @param sfactory Smile Factory
+   * @param cfactory CBOR Factory
+   */
+  public JsonEngine(
+    final JsonFactory factory,
+    final XmlFactory xfactory,
+    final SmileFactory sfactory,
+    final CBORFactory cfactory
+  ) {
+    this(
+      new ObjectMapper(factory.copy())
+        .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+        .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false),
+      new WithDeclaration(xfactory.copy()).value(),
+      new ObjectMapper(sfactory.copy()),
+      new ObjectMapper(cfactory.copy())
+    );
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param jsn JSON Mapper
+   * @param xmlm XML Mapper
+   * @param smle Smile Mapper
+   * @param cbr CBOR Mapper
+   */
+  private JsonEngine(
+    final ObjectMapper jsn,
+    final XmlMapper xmlm,
+    final ObjectMapper smle,
+    final ObjectMapper cbr
+  ) {
+    this.json = jsn;
+    this.xml = xmlm;
+    this.smile = smle;
+    this.cbor = cbr;
+  }
+
+  /**
+   * The shared engine, which is used by default.
+   *
+   * @return Shared engine
+   */
+  public static JsonEngine shared() {
+    return JsonEngine.SHARED.get();
+  }
+
+  /**
+   * Share the engine. Objects, which are created afterwards, use it
+   * by default.
+   *
+   * @param engine Engine
+   */
+  public static void share(final JsonEngine engine) {
+    JsonEngine.SHARED.set(engine);
+  }
+
+  /**
+   * JSON Mapper. It is thread-safe, as long as nobody reconfigures it.
+   *
+   * @return JSON Mapper
+   */
+  ObjectMapper mapper() {
+    return this.json;
+  }
+
+  /**
+   * JSON Factory.
+   *
+   * @return JSON Factory
+   */
+  JsonFactory factory() {
+    return this.json.getFactory();
+  }
+
+  /**
+   * XML Mapper, which writes XML declaration. It is thread-safe, as long
+   * as nobody reconfigures it.
+   *
+   * @return XML Mapper
+   */
+  XmlMapper xml() {
+    return this.xml;
+  }
+
+  /**
+   * Mapper of binary Smile.
+   *
+   * @return Smile Mapper
+   */
+  ObjectMapper smile() {
+    return this.smile;
+  }
+
+  /**
+   * Mapper of binary CBOR.
+   *
+   * @return CBOR Mapper
+   */
+  ObjectMapper cbor() {
+    return this.cbor;
+  }
+}
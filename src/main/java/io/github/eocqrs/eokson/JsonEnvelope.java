@@ -22,7 +22,15 @@
 
 package io.github.eocqrs.eokson;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Json Envelope.
@@ -43,6 +51,15 @@ public abstract class JsonEnvelope implements Json {
     this.origin = origin;
   }
 
+  /**
+   * Tree of the origin JSON, if it is backed by one.
+   *
+   * @return Node
+   */
+  final Optional<JsonNode> tree() {
+    return new TreeOf(this.origin).value();
+  }
+
   @Override
   public final String toString() {
     return new String(new ByteArray(this.origin).value());
@@ -52,4 +69,26 @@ public abstract class JsonEnvelope implements Json {
   public final InputStream bytes() {
     return this.origin.bytes();
   }
+
+  @Override
+  public final OptionalLong knownLength() {
+    return this.origin.knownLength();
+  }
+
+  @Override
+  public final ByteBuffer asByteBuffer() {
+    return this.origin.asByteBuffer();
+  }
+
+  @Override
+  public final long writeTo(final OutputStream out) throws IOException {
+    return this.origin.writeTo(out);
+  }
+
+  @Override
+  public final long writeTo(
+    final WritableByteChannel channel
+  ) throws IOException {
+    return this.origin.writeTo(channel);
+  }
 }
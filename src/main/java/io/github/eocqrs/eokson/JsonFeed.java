@@ -0,0 +1,472 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import ru.l3r8y.annotations.Mutable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Feed of JSON documents, parsed without blocking, e.g.
+ * <pre>
+ * {@code
+ * JsonFeed feed = new JsonFeed(JsonFeed.Framing.LINES);
+ * feed.subscribe(subscriber);
+ * // on every read of the socket
+ * feed.feed(buffer);
+ * // at the end of the input
+ * feed.end();
+ * }
+ * </pre>
+ * Chunks of bytes are accepted as they arrive and never block the caller.
+ * They are parsed by Jackson non-blocking parser only as far as the
+ * subscriber asks for documents, and at most one document is parsed
+ * ahead. Chunks, which are not parsed yet, are queued: use
+ * {@link #backlog()} to stop reading the input when the subscriber is
+ * slow. Documents are published to a single subscriber, from the thread
+ * which feeds bytes or requests documents.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@Mutable
+public final class JsonFeed implements Flow.Publisher<Jocument> {
+
+  /**
+   * How documents are framed.
+   */
+  private final Framing framing;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+  /**
+   * Non-blocking parser.
+   */
+  private final JsonParser parser;
+  /**
+   * Chunks, which are not fed to the parser yet.
+   */
+  private final Queue<byte[]> chunks;
+  /**
+   * Count of queued bytes.
+   */
+  private final AtomicLong queued;
+  /**
+   * Count of requested documents.
+   */
+  private final AtomicLong demand;
+  /**
+   * Count of drain requests, while draining.
+   */
+  private final AtomicInteger wip;
+  /**
+   * Subscriber.
+   */
+  private final AtomicReference<Flow.Subscriber<? super Jocument>> target;
+  /**
+   * Is the end of input reached.
+   */
+  private volatile boolean ended;
+  /**
+   * Is subscription cancelled.
+   */
+  private volatile boolean cancelled;
+  /**
+   * Is the end of input fed to the parser.
+   */
+  private boolean closed;
+  /**
+   * Is the feed completed or failed.
+   */
+  private volatile boolean done;
+  /**
+   * Error of the subscription, which is not signalled yet.
+   */
+  private volatile Throwable failure;
+  /**
+   * Tokens of the current document.
+   */
+  private TokenBuffer tokens;
+  /**
+   * Depth of the current document.
+   */
+  private int depth;
+  /**
+   * Is the top-level array opened.
+   */
+  private boolean opened;
+  /**
+   * Document, which is parsed and waits for demand.
+   */
+  private Jocument ready;
+
+  /**
+   * Ctor.
+   */
+  public JsonFeed() {
+    this(Framing.LINES);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param frm How documents are framed
+   */
+  public JsonFeed(final Framing frm) {
+    this(frm, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param frm How documents are framed
+   * @param eng JSON Engine, which parses documents
+   */
+  public JsonFeed(final Framing frm, final JsonEngine eng) {
+    this.framing = frm;
+    this.engine = eng;
+    this.parser = new Unchecked<>(
+      () -> eng.mapper().getFactory().createNonBlockingByteArrayParser()
+    ).value();
+    this.chunks = new ConcurrentLinkedQueue<>();
+    this.queued = new AtomicLong();
+    this.demand = new AtomicLong();
+    this.wip = new AtomicInteger();
+    this.target = new AtomicReference<>();
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super Jocument> subscriber) {
+    if (this.target.compareAndSet(null, subscriber)) {
+      subscriber.onSubscribe(new Subscription());
+      this.drain();
+    } else {
+      subscriber.onSubscribe(new Rejected());
+      subscriber.onError(
+        new IllegalStateException("JsonFeed has a subscriber already")
+      );
+    }
+  }
+
+  /**
+   * Accept next chunk of bytes.
+   * <p>
+   * Remaining bytes of the buffer are copied, so the buffer can be reused
+   * right after this call. Once the subscription is cancelled, or the feed
+   * is completed or failed, chunks are dropped.
+   *
+   * @param chunk Bytes
+   */
+  public void feed(final ByteBuffer chunk) {
+    if (this.ended) {
+      throw new IllegalStateException("JsonFeed is ended already");
+    }
+    if (this.cancelled || this.done) {
+      chunk.position(chunk.limit());
+    } else {
+      final byte[] bytes = new byte[chunk.remaining()];
+      chunk.get(bytes);
+      this.queued.addAndGet(bytes.length);
+      this.chunks.add(bytes);
+      this.drain();
+    }
+  }
+
+  /**
+   * Accept the end of input.
+   */
+  public void end() {
+    this.ended = true;
+    this.drain();
+  }
+
+  /**
+   * Count of bytes, which are accepted but not parsed yet.
+   *
+   * @return Count of bytes
+   */
+  public long backlog() {
+    return this.queued.get();
+  }
+
+  /**
+   * Parse and publish documents, as far as demand allows. Documents,
+   * errors and completion are signalled from here only, one at a time.
+   */
+  private void drain() {
+    if (this.wip.getAndIncrement() == 0) {
+      int missed = 1;
+      while (missed != 0) {
+        if (!this.cancelled && !this.done && this.target.get() != null) {
+          if (this.failure == null) {
+            this.emit();
+          } else {
+            this.done = true;
+            this.target.get().onError(this.failure);
+          }
+        }
+        if (this.cancelled || this.done) {
+          this.discarded();
+        }
+        missed = this.wip.addAndGet(-missed);
+      }
+    }
+  }
+
+  /**
+   * Publish ready documents and parse next ones.
+   */
+  private void emit() {
+    final Flow.Subscriber<? super Jocument> subscriber = this.target.get();
+    try {
+      boolean more = true;
+      while (more && !this.done && !this.cancelled) {
+        if (this.ready == null) {
+          more = this.parsed();
+        } else if (this.demand.get() > 0L) {
+          final Jocument next = this.ready;
+          this.ready = null;
+          this.demand.decrementAndGet();
+          this.delivered(subscriber, next);
+        } else {
+          more = false;
+        }
+      }
+    } catch (final IOException ex) {
+      this.done = true;
+      subscriber.onError(ex);
+    }
+  }
+
+  /**
+   * Give the document to the subscriber. If the subscriber fails, its
+   * subscription is cancelled.
+   *
+   * @param subscriber Subscriber
+   * @param document Document
+   */
+  private void delivered(
+    final Flow.Subscriber<? super Jocument> subscriber,
+    final Jocument document
+  ) {
+    try {
+      subscriber.onNext(document);
+    } catch (final RuntimeException ex) {
+      this.cancelled = true;
+    }
+  }
+
+  /**
+   * Drop queued chunks and the parsed document, after cancellation or
+   * the end of the feed.
+   */
+  private void discarded() {
+    byte[] chunk = this.chunks.poll();
+    while (chunk != null) {
+      this.queued.addAndGet(-chunk.length);
+      chunk = this.chunks.poll();
+    }
+    this.ready = null;
+    this.tokens = null;
+  }
+
+  /**
+   * Parse tokens, until a document is ready, the input ends or more
+   * input is needed.
+   *
+   * @return True if parsing can go on
+   * @throws IOException If JSON is malformed
+   */
+  private boolean parsed() throws IOException {
+    final JsonToken token = this.parser.nextToken();
+    boolean more = true;
+    if (token == JsonToken.NOT_AVAILABLE) {
+      more = this.fed();
+    } else if (token == null) {
+      this.finished();
+    } else {
+      this.collect(token);
+    }
+    return more;
+  }
+
+  /**
+   * Feed next chunk, or the end of input, to the parser.
+   *
+   * @return True if something was fed
+   * @throws IOException If fails
+   */
+  private boolean fed() throws IOException {
+    final ByteArrayFeeder feeder =
+      (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
+    final byte[] chunk = this.chunks.poll();
+    boolean fed = true;
+    if (chunk != null) {
+      feeder.feedInput(chunk, 0, chunk.length);
+      this.queued.addAndGet(-chunk.length);
+    } else if (this.ended && !this.closed) {
+      feeder.endOfInput();
+      this.closed = true;
+    } else {
+      fed = false;
+    }
+    return fed;
+  }
+
+  /**
+   * Collect the token into the current document.
+   *
+   * @param token Current token
+   * @throws IOException If fails
+   */
+  private void collect(final JsonToken token) throws IOException {
+    if (this.framing == Framing.ARRAY && !this.opened) {
+      if (token != JsonToken.START_ARRAY) {
+        throw new IOException(
+          "Expected JSON array, but got " + token
+        );
+      }
+      this.opened = true;
+    } else if (this.framing == Framing.ARRAY && this.depth == 0
+      && token == JsonToken.END_ARRAY) {
+      this.finished();
+    } else {
+      if (this.tokens == null) {
+        this.tokens = new TokenBuffer(this.parser);
+      }
+      this.tokens.copyCurrentEvent(this.parser);
+      if (token.isStructStart()) {
+        this.depth += 1;
+      } else if (token.isStructEnd()) {
+        this.depth -= 1;
+      }
+      if (this.depth == 0) {
+        final JsonNode node;
+        try (
+          JsonParser buffered = this.tokens.asParser(this.engine.mapper())
+        ) {
+          node = this.engine.mapper().readTree(buffered);
+        }
+        this.tokens = null;
+        this.ready = new Jocument(
+          new NodeJson(() -> node, this.engine),
+          this.engine
+        );
+      }
+    }
+  }
+
+  /**
+   * Complete the feed.
+   */
+  private void finished() {
+    this.done = true;
+    this.target.get().onComplete();
+  }
+
+  /**
+   * How documents are framed in the input.
+   *
+   * @since 0.4.0
+   */
+  public enum Framing {
+
+    /**
+     * Documents follow each other, like in JSON Lines.
+     */
+    LINES,
+
+    /**
+     * Documents are elements of a top-level array.
+     */
+    ARRAY
+  }
+
+  /**
+   * Subscription of the subscriber.
+   *
+   * @since 0.4.0
+   */
+  private final class Subscription implements Flow.Subscription {
+
+    @Override
+    public void request(final long count) {
+      if (count <= 0L) {
+        JsonFeed.this.failure = new IllegalArgumentException(
+          "Count of requested documents must be positive, but was " + count
+        );
+      } else {
+        JsonFeed.this.demand.getAndAccumulate(
+          count,
+          (current, more) -> {
+            final long sum = current + more;
+            final long capped;
+            if (sum < 0L) {
+              capped = Long.MAX_VALUE;
+            } else {
+              capped = sum;
+            }
+            return capped;
+          }
+        );
+      }
+      JsonFeed.this.drain();
+    }
+
+    @Override
+    public void cancel() {
+      JsonFeed.this.cancelled = true;
+      JsonFeed.this.drain();
+    }
+  }
+
+  /**
+   * Subscription of a rejected subscriber.
+   *
+   * @since 0.4.0
+   */
+  private static final class Rejected implements Flow.Subscription {
+
+    @Override
+    public void request(final long count) {
+      // nothing to publish
+    }
+
+    @Override
+    public void cancel() {
+      // nothing to cancel
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines, also known as NDJSON, e.g.
+ * <pre>
+ * {@code
+ * try (Stream<Jocument> events = new JsonLines(path).stream()) {
+ *     events.map(event -> event.leaf("type")).forEach(...);
+ * }
+ * }
+ * </pre>
+ * Records are read lazily, one by one, by a single parser, so only one
+ * record and the read buffer of the parser are held in memory. Each record
+ * is a {@link Jocument} over the parsed node, which is never parsed again.
+ * Close the stream to close the parser and the source. Large files can be
+ * read by all cores with {@link #parallel()}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class JsonLines {
+
+  /**
+   * Chunks of a file smaller than it are not split.
+   */
+  private static final long GRAIN = 1L << 20;
+
+  /**
+   * Source of lines.
+   */
+  private final Json source;
+
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+
+  /**
+   * Ctor.
+   *
+   * @param stream JSON Lines in a stream, which is read once
+   */
+  public JsonLines(final InputStream stream) {
+    this((Json) () -> stream);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param path Path to JSON Lines in a file
+   */
+  public JsonLines(final Path path) {
+    this(new MappedJson(path));
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param lines JSON Lines
+   */
+  public JsonLines(final Json lines) {
+    this(lines, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param lines JSON Lines
+   * @param eng JSON Engine, which parses records
+   */
+  public JsonLines(final Json lines, final JsonEngine eng) {
+    this.source = lines;
+    this.engine = eng;
+  }
+
+  /**
+   * Records as a lazy stream.
+   *
+   * @return Stream of records, which has to be closed
+   */
+  public Stream<Jocument> stream() {
+    final MappingIterator<JsonNode> records = this.records();
+    return StreamSupport.stream(
+      Spliterators.spliteratorUnknownSize(
+        records,
+        Spliterator.ORDERED | Spliterator.NONNULL
+      ),
+      false
+    ).map(
+      node -> new Jocument(
+        new NodeJson(() -> node, this.engine),
+        this.engine
+      )
+    ).onClose(
+      () -> {
+        try {
+          records.close();
+        } catch (final IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      }
+    );
+  }
+
+  /**
+   * Records as a lazy parallel stream.
+   * <p>
+   * JSON Lines in a file are split by newlines into chunks, each parsed by
+   * its own parser, so all cores of a common fork/join pool read them.
+   * Other sources are read by one parser and split by batches of records.
+   *
+   * @return Parallel stream of records, which has to be closed
+   */
+  public Stream<Jocument> parallel() {
+    final Stream<Jocument> records;
+    if (this.source instanceof Splittable) {
+      records = StreamSupport.stream(
+        ((Splittable) this.source).lines(JsonLines.GRAIN, this.engine),
+        true
+      );
+    } else {
+      records = this.stream().parallel();
+    }
+    return records;
+  }
+
+  /**
+   * Iterator over parsed records.
+   *
+   * @return Iterator, which has to be closed
+   */
+  private MappingIterator<JsonNode> records() {
+    try {
+      return this.engine.mapper().readerFor(JsonNode.class)
+        .readValues(this.source.bytes());
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -22,15 +22,16 @@
 
 package io.github.eocqrs.eokson;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Supplier;
 
 /**
@@ -41,11 +42,6 @@ import java.util.function.Supplier;
  */
 public final class JsonOf implements Json {
 
-  /**
-   * Object Mapper.
-   */
-  private static final ObjectMapper MAPPER = new ObjectMapper();
-
   /**
    * Origin.
    */
@@ -63,20 +59,24 @@ public final class JsonOf implements Json {
   /**
    * Ctor.
    *
+   * The node is written to bytes only when they are read, and
+   * {@link Jocument} or {@link MutableJson} built over this JSON reuse
+   * the node without parsing.
+   *
    * @param node JSON represented by {@link JsonNode}
    */
   public JsonOf(final Supplier<JsonNode> node) {
-    this(
-      flattened(
-        () -> {
-          try {
-            return MAPPER.writeValueAsBytes(node.get());
-          } catch (final JsonProcessingException e) {
-            throw new UncheckedIOException(e);
-          }
-        }
-      )
-    );
+    this(new NodeJson(node));
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param node JSON represented by {@link JsonNode}
+   * @param engine JSON Engine, which writes the node to bytes
+   */
+  public JsonOf(final JsonNode node, final JsonEngine engine) {
+    this(new NodeJson(() -> node, engine));
   }
 
   /**
@@ -91,41 +91,39 @@ public final class JsonOf implements Json {
   /**
    * Ctor.
    *
+   * Every {@link #bytes()} call gives a new stream over the same bytes,
+   * so the JSON can be read by many threads at once.
+   *
    * @param bytes JSON represented by an array of bytes
    */
   public JsonOf(final byte[] bytes) {
-    this(
-      new AutoResetInputStream(
-        new ByteArrayInputStream(bytes)
-      )
-    );
+    this(new BytesJson(bytes));
   }
 
   /**
    * Ctor.
    *
+   * The stream is read once, as far as readers go, and recorded, so the
+   * JSON can be read again. Large streams are recorded into a temporary
+   * file.
+   *
    * @param stream JSON represented by the bytes in an
    *               {@link InputStream}
    */
   public JsonOf(final InputStream stream) {
-    this.origin = () -> stream;
+    this(new RecordedJson(stream));
   }
 
   /**
    * Ctor.
+   * <p>
+   * The file is mapped into memory on first read, instead of being copied
+   * into the heap, and can be read any number of times.
    *
    * @param path Path to a JSON in a file
    */
   public JsonOf(final Path path) {
-    this(
-      new Cached<>(
-        () -> new Unchecked<>(
-          () -> new AutoResetInputStream(
-            new ByteArrayInputStream(Files.readAllBytes(path))
-          )
-        ).value()
-      )
-    );
+    this(new MappedJson(path));
   }
 
   /**
@@ -146,8 +144,13 @@ public final class JsonOf implements Json {
     this.origin = json;
   }
 
-  private static <T> T flattened(final Supplier<T> scalar) {
-    return scalar.get();
+  /**
+   * Tree of this JSON, if it is backed by one.
+   *
+   * @return Node
+   */
+  Optional<JsonNode> tree() {
+    return new TreeOf(this.origin).value();
   }
 
   @Override
@@ -155,6 +158,26 @@ public final class JsonOf implements Json {
     return this.origin.bytes();
   }
 
+  @Override
+  public OptionalLong knownLength() {
+    return this.origin.knownLength();
+  }
+
+  @Override
+  public ByteBuffer asByteBuffer() {
+    return this.origin.asByteBuffer();
+  }
+
+  @Override
+  public long writeTo(final OutputStream out) throws IOException {
+    return this.origin.writeTo(out);
+  }
+
+  @Override
+  public long writeTo(final WritableByteChannel channel) throws IOException {
+    return this.origin.writeTo(channel);
+  }
+
   @Override
   public String toString() {
     return new String(new ByteArray(this).value());
@@ -22,12 +22,27 @@
 
 package io.github.eocqrs.eokson;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.cactoos.Text;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import javax.xml.namespace.QName;
+
 /**
  * JSON in XML.
+ * <p>
+ * Tokens of the JSON are copied straight into an XML generator of
+ * a shared XML mapper, in one pass, without building a tree.
+ * A huge JSON array can be written element by element with
+ * {@link #writeElementsTo(OutputStream, Pointer, String)}, so memory
+ * is bounded by the buffers of the writer, not by the size of the XML.
  *
  * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
  * @since 0.3.2
@@ -42,6 +57,10 @@ public final class JsonXML implements Text {
    * Root XML node.
    */
   private final String root;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
 
   /**
    * Ctor.
@@ -50,22 +69,138 @@ public final class JsonXML implements Text {
    * @param rt  Root XML node
    */
   public JsonXML(final Json jsn, final String rt) {
+    this(jsn, rt, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param jsn JSON
+   * @param rt  Root XML node
+   * @param eng JSON Engine, which parses JSON and writes XML
+   */
+  public JsonXML(final Json jsn, final String rt, final JsonEngine eng) {
     this.json = jsn;
     this.root = rt;
+    this.engine = eng;
   }
 
   @Override
   public String asString() throws Exception {
-    final ObjectMapper mapper = new ObjectMapper();
-    final JsonNode node = mapper.readTree(
-      new Jocument(
-        this.json
-      ).pretty()
-    );
-    return new WithDeclaration()
-      .value()
-      .writer()
-      .withRootName(this.root)
-      .writeValueAsString(node);
+    final StringWriter writer = new StringWriter();
+    this.writeTo(writer);
+    return writer.toString();
+  }
+
+  /**
+   * Write XML into the writer. The writer is flushed, but not closed.
+   *
+   * @param writer Writer
+   * @throws IOException If fails
+   */
+  public void writeTo(final Writer writer) throws IOException {
+    this.transcoded(this.engine.xml().getFactory().createGenerator(writer));
+  }
+
+  /**
+   * Write XML in UTF-8 into the stream. The stream is flushed, but not
+   * closed.
+   *
+   * @param out Stream
+   * @throws IOException If fails
+   */
+  public void writeTo(final OutputStream out) throws IOException {
+    this.transcoded(this.engine.xml().getFactory().createGenerator(out));
+  }
+
+  /**
+   * Write elements of the root JSON array in UTF-8 into the stream, each
+   * as its own XML element under the root.
+   *
+   * @param out Stream
+   * @param element Name of XML element for each array element
+   * @throws IOException If fails
+   * @see #writeElementsTo(OutputStream, Pointer, String)
+   */
+  public void writeElementsTo(final OutputStream out, final String element)
+    throws IOException {
+    this.chunked(out, JsonPointer.empty(), element);
+  }
+
+  /**
+   * Write elements of the JSON array at the path in UTF-8 into the stream,
+   * each as its own XML element under the root.
+   * <p>
+   * Elements are streamed one by one, and the stream is flushed after each
+   * of them, so the XML never stays in memory as a whole. If there is
+   * no array at the path, only the empty root is written. The stream is
+   * not closed.
+   *
+   * @param out Stream
+   * @param path Path to the array
+   * @param element Name of XML element for each array element
+   * @throws IOException If fails
+   */
+  public void writeElementsTo(
+    final OutputStream out,
+    final Pointer path,
+    final String element
+  ) throws IOException {
+    this.chunked(out, path.value(), element);
+  }
+
+  /**
+   * Copy elements of the JSON array at the path into the stream.
+   *
+   * @param out Stream
+   * @param path Path to the array
+   * @param element Name of XML element for each array element
+   * @throws IOException If fails
+   */
+  private void chunked(
+    final OutputStream out,
+    final JsonPointer path,
+    final String element
+  ) throws IOException {
+    try (
+      ToXmlGenerator gen = this.engine.xml().getFactory()
+        .createGenerator(out);
+      JsonParser parser = this.engine.factory().createParser(this.json.bytes())
+    ) {
+      gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      gen.setNextName(new QName(this.root));
+      gen.initGenerator();
+      gen.writeStartObject();
+      if (
+        StreamedNodeAt.seek(parser, path, true)
+          && parser.currentToken() == JsonToken.START_ARRAY
+      ) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          gen.writeFieldName(element);
+          gen.copyCurrentStructure(parser);
+          gen.flush();
+        }
+      }
+      gen.writeEndObject();
+    }
+  }
+
+  /**
+   * Copy tokens of the JSON into the generator.
+   *
+   * @param xml Generator
+   * @throws IOException If fails
+   */
+  private void transcoded(final ToXmlGenerator xml) throws IOException {
+    try (
+      ToXmlGenerator gen = xml;
+      JsonParser parser = this.engine.factory().createParser(this.json.bytes())
+    ) {
+      gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      gen.setNextName(new QName(this.root));
+      gen.initGenerator();
+      parser.nextToken();
+      gen.copyCurrentStructure(parser);
+    }
   }
 }
@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Leaves of a JSON, resolved together by {@link Jocument#leaves(PathSet)}.
+ * <p>
+ * Leaves are read by the same paths, which were requested, e.g.
+ * <pre>
+ * {@code
+ * Leaves leaves = document.leaves("/event/id", "/event/owner/name");
+ * int id = leaves.leafAsInt("/event/id");
+ * Optional<String> name = leaves.optLeaf("/event/owner/name");
+ * }
+ * </pre>
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class Leaves {
+
+  /**
+   * Requested paths.
+   */
+  private final PathSet paths;
+  /**
+   * Nodes found by paths.
+   */
+  private final Map<String, JsonNode> nodes;
+
+  /**
+   * Ctor.
+   *
+   * @param pths Requested paths
+   * @param found Nodes found by paths
+   */
+  Leaves(final PathSet pths, final Map<String, JsonNode> found) {
+    this.paths = pths;
+    this.nodes = found;
+  }
+
+  /**
+   * Tells if there is a node at the path.
+   *
+   * @param path Requested JSON path
+   * @return Is present or not
+   * @throws IllegalArgumentException if path was not requested
+   */
+  public boolean has(final String path) {
+    return this.node(path).isPresent();
+  }
+
+  /**
+   * Get a leaf of type {@code String}, boxed in {@code Optional}.
+   *
+   * @param path Requested JSON path
+   * @return Optional leaf value
+   * @throws IllegalArgumentException if path was not requested
+   */
+  public Optional<String> optLeaf(final String path) {
+    return this.node(path).map(JsonNode::textValue);
+  }
+
+  /**
+   * Get a leaf of type {@code String}.
+   *
+   * @param path Requested JSON path
+   * @return String leaf value, if the leaf exists
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public String leaf(final String path) {
+    return this.optLeaf(path).orElseThrow(
+      () -> new IllegalArgumentException(
+        "No such field of specified type: " + path
+      )
+    );
+  }
+
+  /**
+   * Get a leaf of type {@code Integer}, boxed in {@code Optional}.
+   *
+   * @param path Requested JSON path
+   * @return Optional leaf value
+   * @throws IllegalArgumentException if path was not requested
+   */
+  public Optional<Integer> optLeafAsInt(final String path) {
+    return this.node(path).map(JsonNode::intValue);
+  }
+
+  /**
+   * Get a leaf of type {@code int}.
+   *
+   * @param path Requested JSON path
+   * @return Int leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public int leafAsInt(final String path) {
+    return this.optLeafAsInt(path).orElseThrow(
+      () -> new IllegalArgumentException(
+        "No such field of specified type: " + path
+      )
+    );
+  }
+
+  /**
+   * Get a leaf of type {@code Double}, boxed in {@code Optional}.
+   *
+   * @param path Requested JSON path
+   * @return Optional leaf value
+   * @throws IllegalArgumentException if path was not requested
+   */
+  public Optional<Double> optLeafAsDouble(final String path) {
+    return this.node(path).map(JsonNode::doubleValue);
+  }
+
+  /**
+   * Get a leaf of type {@code double}.
+   *
+   * @param path Requested JSON path
+   * @return Double leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public double leafAsDouble(final String path) {
+    return this.optLeafAsDouble(path).orElseThrow(
+      () -> new IllegalArgumentException(
+        "No such field of specified type: " + path
+      )
+    );
+  }
+
+  /**
+   * Get a leaf of type {@code Boolean}, boxed in {@code Optional}.
+   *
+   * @param path Requested JSON path
+   * @return Optional leaf value
+   * @throws IllegalArgumentException if path was not requested
+   */
+  public Optional<Boolean> optLeafAsBool(final String path) {
+    return this.node(path).map(JsonNode::booleanValue);
+  }
+
+  /**
+   * Get a leaf of type {@code boolean}.
+   *
+   * @param path Requested JSON path
+   * @return Boolean leaf value
+   * @throws IllegalArgumentException if leaf does not exist
+   */
+  public boolean leafAsBool(final String path) {
+    return this.optLeafAsBool(path).orElseThrow(
+      () -> new IllegalArgumentException(
+        "No such field of specified type: " + path
+      )
+    );
+  }
+
+  /**
+   * Node at the requested path.
+   *
+   * @param path Requested JSON path
+   * @return Optional node
+   * @throws IllegalArgumentException if path was not requested
+   */
+  private Optional<JsonNode> node(final String path) {
+    if (!this.paths.paths().contains(path)) {
+      throw new IllegalArgumentException(
+        "Path was not requested: " + path
+      );
+    }
+    return Optional.ofNullable(this.nodes.get(path));
+  }
+}
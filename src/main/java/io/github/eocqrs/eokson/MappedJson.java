@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+
+/**
+ * JSON in a file, mapped into memory.
+ * <p>
+ * The file is mapped once, on first read, and every {@link #bytes()} call
+ * gives a new stream over the mapping, so JSON is read without copying the
+ * file into the heap and can be read again and again. Files larger than
+ * 2 GB are mapped by several segments.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class MappedJson implements Json, Splittable {
+
+  /**
+   * Max size of one mapped segment.
+   */
+  private static final long SEGMENT = Integer.MAX_VALUE;
+
+  /**
+   * Path to the file.
+   */
+  private final Path path;
+  /**
+   * Max size of one mapped segment.
+   */
+  private final long segment;
+  /**
+   * Mapped segments.
+   */
+  private final Cached<List<ByteBuffer>> segments;
+
+  /**
+   * Ctor.
+   *
+   * @param path Path to a JSON in a file
+   */
+  MappedJson(final Path path) {
+    this(path, MappedJson.SEGMENT);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param path Path to a JSON in a file
+   * @param size Max size of one mapped segment
+   */
+  MappedJson(final Path path, final long size) {
+    this.path = path;
+    this.segment = size;
+    this.segments = new Cached<>(() -> MappedJson.mapped(path, size));
+  }
+
+  @Override
+  public InputStream bytes() {
+    return new BufferStream(this.segments.value());
+  }
+
+  @Override
+  public Spliterator<Jocument> lines(
+    final long grain,
+    final JsonEngine engine
+  ) {
+    return new MappedLines(
+      this.segments.value(),
+      this.segment,
+      grain,
+      0L,
+      this.knownLength().getAsLong(),
+      engine
+    );
+  }
+
+  @Override
+  public OptionalLong knownLength() {
+    return OptionalLong.of(
+      this.segments.value().stream().mapToLong(ByteBuffer::remaining).sum()
+    );
+  }
+
+  @Override
+  public ByteBuffer asByteBuffer() {
+    final List<ByteBuffer> mapped = this.segments.value();
+    final ByteBuffer buffer;
+    if (mapped.isEmpty()) {
+      buffer = ByteBuffer.allocate(0).asReadOnlyBuffer();
+    } else if (mapped.size() == 1) {
+      buffer = mapped.get(0).asReadOnlyBuffer();
+    } else {
+      buffer = Json.super.asByteBuffer();
+    }
+    return buffer;
+  }
+
+  @Override
+  public long writeTo(final OutputStream out) throws IOException {
+    final WritableByteChannel channel = Channels.newChannel(out);
+    long written = 0L;
+    for (final ByteBuffer segment : this.segments.value()) {
+      final ByteBuffer source = segment.duplicate();
+      while (source.hasRemaining()) {
+        written += channel.write(source);
+      }
+    }
+    return written;
+  }
+
+  @Override
+  public long writeTo(final WritableByteChannel channel) throws IOException {
+    try (
+      FileChannel file = FileChannel.open(this.path, StandardOpenOption.READ)
+    ) {
+      final long length = file.size();
+      long position = 0L;
+      while (position < length) {
+        position += file.transferTo(position, length - position, channel);
+      }
+      return position;
+    }
+  }
+
+  /**
+   * Map the file by read-only segments.
+   *
+   * @param path Path to the file
+   * @param size Max size of one segment
+   * @return Segments
+   */
+  private static List<ByteBuffer> mapped(final Path path, final long size) {
+    try (
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)
+    ) {
+      final long length = channel.size();
+      final List<ByteBuffer> mapped = new ArrayList<>(1);
+      long position = 0L;
+      while (position < length) {
+        final long chunk = Math.min(size, length - position);
+        mapped.add(
+          channel.map(FileChannel.MapMode.READ_ONLY, position, chunk)
+        );
+        position += chunk;
+      }
+      return mapped;
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
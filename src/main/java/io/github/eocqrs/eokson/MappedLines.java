@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import ru.l3r8y.annotations.Mutable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Records of JSON Lines in a mapped file, between two positions.
+ * <p>
+ * It splits by halves, moving the split point to the next newline, so
+ * every chunk has whole records only. Each chunk is parsed by its own
+ * parser, when it is traversed, so chunks can be read by many threads.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@Mutable
+final class MappedLines implements Spliterator<Jocument> {
+
+  /**
+   * Mapped segments.
+   */
+  private final List<ByteBuffer> segments;
+  /**
+   * Size of each segment, except the last one.
+   */
+  private final long segment;
+  /**
+   * Chunks smaller than it are not split.
+   */
+  private final long grain;
+  /**
+   * Position of the end of this chunk.
+   */
+  private final long end;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+  /**
+   * Position of the start of this chunk.
+   */
+  private long start;
+  /**
+   * Records of this chunk, once traversal started.
+   */
+  private MappingIterator<JsonNode> records;
+
+  /**
+   * Ctor.
+   *
+   * @param mapped Mapped segments
+   * @param size Size of each segment, except the last one
+   * @param min Chunks smaller than it are not split
+   * @param from Position of the start
+   * @param till Position of the end
+   * @param eng JSON Engine
+   */
+  MappedLines(
+    final List<ByteBuffer> mapped,
+    final long size,
+    final long min,
+    final long from,
+    final long till,
+    final JsonEngine eng
+  ) {
+    this.segments = mapped;
+    this.segment = size;
+    this.grain = Math.max(1L, min);
+    this.start = from;
+    this.end = till;
+    this.engine = eng;
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super Jocument> action) {
+    if (this.records == null) {
+      this.records = this.parsed();
+    }
+    final boolean next = this.records.hasNext();
+    if (next) {
+      final JsonNode node = this.records.next();
+      action.accept(
+        new Jocument(new NodeJson(() -> node, this.engine), this.engine)
+      );
+    } else {
+      try {
+        this.records.close();
+      } catch (final IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+    return next;
+  }
+
+  @Override
+  public Spliterator<Jocument> trySplit() {
+    Spliterator<Jocument> prefix = null;
+    if (this.records == null && this.end - this.start > this.grain) {
+      long middle = this.start + (this.end - this.start) / 2L;
+      while (middle < this.end && this.at(middle - 1L) != '\n') {
+        ++middle;
+      }
+      if (middle < this.end) {
+        prefix = new MappedLines(
+          this.segments, this.segment, this.grain, this.start, middle,
+          this.engine
+        );
+        this.start = middle;
+      }
+    }
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.end - this.start;
+  }
+
+  @Override
+  public int characteristics() {
+    return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+  }
+
+  /**
+   * Byte at the position.
+   *
+   * @param position Position in the file
+   * @return Byte
+   */
+  private byte at(final long position) {
+    return this.segments.get((int) (position / this.segment))
+      .get((int) (position % this.segment));
+  }
+
+  /**
+   * Parser of records of this chunk.
+   *
+   * @return Records
+   */
+  private MappingIterator<JsonNode> parsed() {
+    final List<ByteBuffer> slices = new ArrayList<>(1);
+    long position = this.start;
+    while (position < this.end) {
+      final int offset = (int) (position % this.segment);
+      final ByteBuffer source =
+        this.segments.get((int) (position / this.segment));
+      final int length = (int) Math.min(
+        source.limit() - offset,
+        this.end - position
+      );
+      slices.add(source.slice(offset, length));
+      position += length;
+    }
+    try {
+      return this.engine.mapper().readerFor(JsonNode.class)
+        .readValues(new BufferStream(slices));
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
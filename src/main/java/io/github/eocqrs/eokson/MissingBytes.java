@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Tells if bytes of a JSON represent a missing JSON.
+ * <p>
+ * A JSON is missing, if it has no bytes or it is {@code null}, surrounded
+ * by whitespace only. It reads only first non-whitespace bytes and never
+ * copies the JSON.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class MissingBytes implements Scalar<Boolean> {
+
+  /**
+   * JSON.
+   */
+  private final Json json;
+
+  /**
+   * Ctor.
+   *
+   * @param jsn JSON
+   */
+  MissingBytes(final Json jsn) {
+    this.json = jsn;
+  }
+
+  @Override
+  public Boolean value() {
+    return new Unchecked<>(
+      () -> {
+        try (InputStream stream = this.json.bytes()) {
+          final int first = MissingBytes.nonBlank(stream);
+          boolean missing = first == -1;
+          if (first == 'n') {
+            missing = stream.read() == 'u'
+              && stream.read() == 'l'
+              && stream.read() == 'l'
+              && MissingBytes.nonBlank(stream) == -1;
+          }
+          return missing;
+        }
+      }
+    ).value();
+  }
+
+  /**
+   * Read the first non-whitespace byte.
+   *
+   * @param stream Stream
+   * @return Byte or -1 at the end of the stream
+   * @throws IOException When something went wrong
+   */
+  private static int nonBlank(final InputStream stream) throws IOException {
+    int next = stream.read();
+    while (next == ' ' || next == '\t' || next == '\n' || next == '\r') {
+      next = stream.read();
+    }
+    return next;
+  }
+}
@@ -22,12 +22,16 @@
 
 package io.github.eocqrs.eokson;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * JSON, which is mutable and can be used to build custom JSONs, e.g.
@@ -49,37 +53,78 @@ import java.util.Collection;
 public final class MutableJson implements Json {
 
   /**
-   * Object Mapper.
+   * Base node.
    */
-  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private final ObjectNode base;
 
   /**
-   * Base node.
+   * Has raw values, which can not be read from the tree.
    */
-  private final ObjectNode base;
+  private final AtomicBoolean raw;
+
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
 
   /**
    * Ctor.
    */
   public MutableJson() {
-    this(MAPPER.createObjectNode());
+    this(JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param eng JSON Engine, which writes this JSON
+   */
+  public MutableJson(final JsonEngine eng) {
+    this(eng.mapper().createObjectNode(), eng);
   }
 
   /**
    * Ctor.
+   * <p>
+   * If the base JSON is already backed by a tree, it is copied instead
+   * of parsing its bytes.
    *
    * @param base The base JSON to build upon.
    */
   public MutableJson(final Json base) {
+    this(base, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param base The base JSON to build upon.
+   * @param eng JSON Engine, which parses the base and writes this JSON
+   */
+  public MutableJson(final Json base, final JsonEngine eng) {
     this(
-      (ObjectNode) new Unchecked<>(
-        () -> MAPPER.readTree(base.bytes())
-      ).value()
+      new TreeOf(base).value()
+        .filter(JsonNode::isObject)
+        .map(node -> ((ObjectNode) node).deepCopy())
+        .orElseGet(
+          () -> (ObjectNode) new Unchecked<>(
+            () -> eng.mapper().readTree(base.bytes())
+          ).value()
+        ),
+      eng
     );
   }
 
-  private MutableJson(final ObjectNode base) {
+  /**
+   * Ctor.
+   *
+   * @param base Base node
+   * @param eng JSON Engine
+   */
+  private MutableJson(final ObjectNode base, final JsonEngine eng) {
     this.base = base;
+    this.raw = new AtomicBoolean();
+    this.engine = eng;
   }
 
   /**
@@ -139,7 +184,31 @@ public final class MutableJson implements Json {
    * @return This JSON.
    */
   public MutableJson with(final String name, final Json value) {
-    this.base.set(name, new Jocument(value).objectNode());
+    this.base.set(name, new Jocument(value, this.engine).objectNode());
+    return this;
+  }
+
+  /**
+   * Add a {@link Json} field to this JSON, as it is.
+   * <p>
+   * Bytes of the value are read once and spliced into the output verbatim,
+   * without parsing and writing them again, so the cost does not grow with
+   * the size of an opaque payload. The value is not checked: wrap it into
+   * {@link WellFormedJson} to check it by a fast scan of its tokens. Bytes
+   * must be in UTF-8.
+   *
+   * @param name  Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public MutableJson withRaw(final String name, final Json value) {
+    this.base.putRawValue(
+      name,
+      new RawValue(
+        new String(new ByteArray(value).value(), StandardCharsets.UTF_8)
+      )
+    );
+    this.raw.set(true);
     return this;
   }
 
@@ -154,18 +223,33 @@ public final class MutableJson implements Json {
     final String name,
     final Collection<MutableJson> jsons
   ) {
-    final ArrayNode node = MAPPER.createArrayNode();
+    final ArrayNode node = this.engine.mapper().createArrayNode();
     this.base.set(name, node);
     jsons.forEach(
       json ->
-        node.add(new Jocument(json).objectNode())
+        node.add(new Jocument(json, this.engine).objectNode())
     );
     return this;
   }
 
+  /**
+   * Tree of this JSON, unless it has raw values.
+   *
+   * @return Base node
+   */
+  Optional<JsonNode> tree() {
+    final Optional<JsonNode> tree;
+    if (this.raw.get()) {
+      tree = Optional.empty();
+    } else {
+      tree = Optional.of(this.base);
+    }
+    return tree;
+  }
+
   @Override
   public InputStream bytes() {
-    return new JsonOf(this.base).bytes();
+    return new NodeJson(() -> this.base, this.engine).bytes();
   }
 
   @Override
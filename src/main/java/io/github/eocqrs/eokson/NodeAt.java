@@ -36,9 +36,9 @@ import java.util.Optional;
 public final class NodeAt implements Scalar<Optional<JsonNode>> {
 
   /**
-   * JSON path.
+   * Compiled JSON path.
    */
-  private final String path;
+  private final Pointer path;
   /**
    * Jackson Node.
    */
@@ -53,6 +53,19 @@ public final class NodeAt implements Scalar<Optional<JsonNode>> {
   public NodeAt(
     final String pth,
     final Unchecked<ObjectNode> jackson
+  ) {
+    this(new Pointer(pth), jackson);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pth     Compiled path
+   * @param jackson Jackson Node
+   */
+  public NodeAt(
+    final Pointer pth,
+    final Unchecked<ObjectNode> jackson
   ) {
     this.path = pth;
     this.jackson = jackson;
@@ -60,12 +73,7 @@ public final class NodeAt implements Scalar<Optional<JsonNode>> {
 
   @Override
   public Optional<JsonNode> value() {
-    final JsonNode node;
-    if (!this.path.isEmpty() && this.path.charAt(0) == '/') {
-      node = this.jackson.value().at(this.path);
-    } else {
-      node = this.jackson.value().path(this.path);
-    }
+    final JsonNode node = this.jackson.value().at(this.path.value());
     if (node.isMissingNode()) {
       return Optional.empty();
     }
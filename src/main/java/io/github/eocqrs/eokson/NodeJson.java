@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * JSON backed by a Jackson node.
+ * <p>
+ * Its bytes are written only when they are read, and are kept softly, so
+ * they can be reclaimed under heap pressure and written again. Documents,
+ * which can work with the node directly, take it by {@link TreeOf}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class NodeJson implements Json, Treed {
+
+  /**
+   * Node.
+   */
+  private final Cached<JsonNode> node;
+  /**
+   * Written bytes.
+   */
+  private final Cached<byte[]> written;
+
+  /**
+   * Ctor.
+   *
+   * @param node Node
+   */
+  NodeJson(final Supplier<JsonNode> node) {
+    this(node, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param node Node
+   * @param engine JSON Engine, which writes the node
+   */
+  NodeJson(final Supplier<JsonNode> node, final JsonEngine engine) {
+    this(new Cached<>(node), engine);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param node Cached node
+   * @param engine JSON Engine, which writes the node
+   */
+  private NodeJson(final Cached<JsonNode> node, final JsonEngine engine) {
+    this.node = node;
+    this.written = new Cached<>(
+      () -> {
+        try {
+          return engine.mapper().writeValueAsBytes(node.value());
+        } catch (final JsonProcessingException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      },
+      Cached.Retention.SOFT
+    );
+  }
+
+  @Override
+  public Optional<JsonNode> tree() {
+    return Optional.of(this.node.value());
+  }
+
+  @Override
+  public InputStream bytes() {
+    return new ByteArrayInputStream(this.written.value());
+  }
+
+  @Override
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(this.written.value()).asReadOnlyBuffer();
+  }
+
+  @Override
+  public long writeTo(final OutputStream out) throws IOException {
+    final byte[] bytes = this.written.value();
+    out.write(bytes);
+    return bytes.length;
+  }
+}
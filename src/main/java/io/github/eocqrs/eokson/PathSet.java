@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Set of JSON paths, compiled once to be resolved together, e.g.
+ * <pre>
+ * {@code
+ * PathSet paths = new PathSet("/event/id", "/event/owner/name");
+ * Leaves leaves = new Jocument(json).leaves(paths);
+ * String name = leaves.leaf("/event/owner/name");
+ * }
+ * </pre>
+ * It is safe to share one {@code PathSet} between many threads.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class PathSet {
+
+  /**
+   * Paths.
+   */
+  private final Set<String> paths;
+  /**
+   * Compiled tree of pointers.
+   */
+  private final Cached<PointerTree> tree;
+
+  /**
+   * Ctor.
+   *
+   * @param pths JSON paths
+   */
+  public PathSet(final String... pths) {
+    this(Arrays.asList(pths));
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pths JSON paths
+   */
+  public PathSet(final Collection<String> pths) {
+    this.paths = Collections.unmodifiableSet(new LinkedHashSet<>(pths));
+    this.tree = new Cached<>(
+      () -> {
+        final PointerTree root = new PointerTree();
+        this.paths.forEach(
+          path -> root.with(new PointerOf(path).value(), path)
+        );
+        return root;
+      }
+    );
+  }
+
+  /**
+   * Paths.
+   *
+   * @return All paths of this set
+   */
+  public Set<String> paths() {
+    return this.paths;
+  }
+
+  /**
+   * Compiled tree of pointers.
+   *
+   * @return Tree
+   */
+  PointerTree tree() {
+    return this.tree.value();
+  }
+}
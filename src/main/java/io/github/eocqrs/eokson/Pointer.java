@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+/**
+ * Compiled JSON path.
+ * <p>
+ * A path which starts with a forward slash is a JSON Pointer, e.g.
+ * {@code /path/to/leaf}. Any other path is the name of a single field
+ * of the root object. The path is compiled once, when the object is
+ * created, so keep it in a constant and reuse it, e.g.
+ * <pre>
+ * {@code
+ * private static final Pointer OWNER = new Pointer("/event/owner/name");
+ * ...
+ * String owner = new Jocument(json).leaf(OWNER);
+ * }
+ * </pre>
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class Pointer implements Scalar<JsonPointer> {
+
+  /**
+   * Path.
+   */
+  private final String path;
+  /**
+   * Compiled JSON Pointer.
+   */
+  private final JsonPointer pointer;
+
+  /**
+   * Ctor.
+   *
+   * @param pth JSON path
+   */
+  public Pointer(final String pth) {
+    this(pth, new PointerOf(pth).value());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pth JSON path
+   * @param ptr Compiled JSON Pointer
+   */
+  private Pointer(final String pth, final JsonPointer ptr) {
+    this.path = pth;
+    this.pointer = ptr;
+  }
+
+  @Override
+  public JsonPointer value() {
+    return this.pointer;
+  }
+
+  @Override
+  public String toString() {
+    return this.path;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON Pointer of a path.
+ * <p>
+ * A path which starts with a forward slash is a JSON Pointer, e.g.
+ * {@code /path/to/leaf}. Any other path is the name of a single field
+ * of the root object.
+ * <p>
+ * Compiled pointers are interned in a bounded cache, shared by all paths,
+ * so a fixed set of hot paths is parsed only once. When the cache is full,
+ * it is cleared at once, and hot paths get back into it on next use.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class PointerOf implements Scalar<JsonPointer> {
+
+  /**
+   * Maximum count of interned pointers.
+   */
+  private static final int CAPACITY = 1024;
+  /**
+   * Interned pointers by paths.
+   */
+  private static final Map<String, JsonPointer> INTERNED =
+    new ConcurrentHashMap<>(PointerOf.CAPACITY);
+  /**
+   * Path.
+   */
+  private final String path;
+
+  /**
+   * Ctor.
+   *
+   * @param pth Path
+   */
+  PointerOf(final String pth) {
+    this.path = pth;
+  }
+
+  @Override
+  public JsonPointer value() {
+    JsonPointer pointer = PointerOf.INTERNED.get(this.path);
+    if (pointer == null) {
+      pointer = this.compiled();
+      if (PointerOf.INTERNED.size() >= PointerOf.CAPACITY) {
+        PointerOf.INTERNED.clear();
+      }
+      PointerOf.INTERNED.putIfAbsent(this.path, pointer);
+    }
+    return pointer;
+  }
+
+  /**
+   * Compile the path.
+   *
+   * @return JSON Pointer
+   */
+  private JsonPointer compiled() {
+    final JsonPointer pointer;
+    if (!this.path.isEmpty() && this.path.charAt(0) == '/') {
+      pointer = JsonPointer.compile(this.path);
+    } else {
+      pointer = JsonPointer.compile(
+        "/" + this.path.replace("~", "~0").replace("/", "~1")
+      );
+    }
+    return pointer;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tree of JSON Pointers, sharing common prefixes.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class PointerTree {
+
+  /**
+   * Children by field name.
+   */
+  private final Map<String, PointerTree> fields;
+  /**
+   * Children by array index.
+   */
+  private final Map<Integer, PointerTree> elements;
+  /**
+   * Paths, which end here.
+   */
+  private final List<String> paths;
+
+  /**
+   * Ctor.
+   */
+  PointerTree() {
+    this.fields = new HashMap<>(4);
+    this.elements = new HashMap<>(4);
+    this.paths = new ArrayList<>(1);
+  }
+
+  /**
+   * Add a path to this tree.
+   *
+   * @param pointer JSON Pointer of the path, relative to this tree
+   * @param path Path
+   * @return This tree
+   */
+  PointerTree with(final JsonPointer pointer, final String path) {
+    if (pointer.matches()) {
+      this.paths.add(path);
+    } else {
+      final PointerTree child = this.fields.computeIfAbsent(
+        pointer.getMatchingProperty(),
+        name -> new PointerTree()
+      );
+      if (pointer.getMatchingIndex() >= 0) {
+        this.elements.put(pointer.getMatchingIndex(), child);
+      }
+      child.with(pointer.tail(), path);
+    }
+    return this;
+  }
+
+  /**
+   * Child by field name.
+   *
+   * @param name Field name
+   * @return Child or NULL, if there is no such child
+   */
+  PointerTree field(final String name) {
+    return this.fields.get(name);
+  }
+
+  /**
+   * Child by array index.
+   *
+   * @param index Array index
+   * @return Child or NULL, if there is no such child
+   */
+  PointerTree element(final int index) {
+    return this.elements.get(index);
+  }
+
+  /**
+   * Tells if some paths end here.
+   *
+   * @return True if some paths end here
+   */
+  boolean terminal() {
+    return !this.paths.isEmpty();
+  }
+
+  /**
+   * Count of all paths in this tree.
+   *
+   * @return Count of paths
+   */
+  int size() {
+    int size = this.paths.size();
+    for (final PointerTree child : this.fields.values()) {
+      size += child.size();
+    }
+    return size;
+  }
+
+  /**
+   * Resolve all paths of this tree against the node.
+   *
+   * @param node Node, which this tree is relative to
+   * @param found Nodes found by paths
+   */
+  void resolve(final JsonNode node, final Map<String, JsonNode> found) {
+    for (final String path : this.paths) {
+      found.putIfAbsent(path, node);
+    }
+    if (node.isObject()) {
+      this.fields.forEach(
+        (name, child) -> PointerTree.descend(node.path(name), child, found)
+      );
+    } else if (node.isArray()) {
+      this.elements.forEach(
+        (index, child) -> PointerTree.descend(node.path(index), child, found)
+      );
+    }
+  }
+
+  /**
+   * Resolve the child against the node, if the node is not missing.
+   *
+   * @param node Node
+   * @param child Child
+   * @param found Nodes found by paths
+   */
+  private static void descend(
+    final JsonNode node,
+    final PointerTree child,
+    final Map<String, JsonNode> found
+  ) {
+    if (!node.isMissingNode()) {
+      child.resolve(node, found);
+    }
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import ru.l3r8y.annotations.Mutable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * JSON from a stream, which is recorded while it is read.
+ * <p>
+ * The origin stream is read only once and only as far as readers go. Every
+ * {@link #bytes()} call gives a new {@link Replay}, which reads recorded
+ * bytes first and asks this recording for more when it reaches its end.
+ * Small JSONs are kept in memory; once the recording grows beyond the
+ * threshold, it is spilled into a temporary file, opened with
+ * {@link StandardOpenOption#DELETE_ON_CLOSE}, so there is no limit on
+ * the size of the JSON.
+ * The origin is closed as soon as it is read to the end. Readers, like
+ * parsers, may stop before the end and close their {@link Replay}, so
+ * closing a replay records the rest of the origin and closes it: later
+ * replays still see the whole JSON and the origin does not leak.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@Mutable
+final class RecordedJson implements Json {
+
+  /**
+   * Default bytes kept in memory, before spilling to a file.
+   */
+  private static final int THRESHOLD = 4 << 20;
+  /**
+   * Bytes pulled from the origin at once.
+   */
+  private static final int CHUNK = 8 << 10;
+  /**
+   * Origin stream.
+   */
+  private final InputStream origin;
+  /**
+   * Bytes kept in memory, before spilling to a file.
+   */
+  private final int threshold;
+  /**
+   * Recorded bytes in memory.
+   */
+  private byte[] memory;
+  /**
+   * Buffer for pulls from the origin, while it is not read to the end.
+   */
+  private byte[] chunk;
+  /**
+   * File with recorded bytes, once spilled.
+   */
+  private FileChannel spill;
+  /**
+   * Count of recorded bytes.
+   */
+  private long size;
+  /**
+   * Is origin read to the end.
+   */
+  private boolean done;
+
+  /**
+   * Ctor.
+   *
+   * @param stream Origin stream
+   */
+  RecordedJson(final InputStream stream) {
+    this(stream, RecordedJson.THRESHOLD);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param stream Origin stream
+   * @param limit Bytes kept in memory, before spilling to a file
+   */
+  RecordedJson(final InputStream stream, final int limit) {
+    this.origin = stream;
+    this.threshold = limit;
+    this.memory = new byte[0];
+  }
+
+  @Override
+  public InputStream bytes() {
+    return new Replay(this);
+  }
+
+  @Override
+  public synchronized OptionalLong knownLength() {
+    final OptionalLong length;
+    if (this.done) {
+      length = OptionalLong.of(this.size);
+    } else {
+      length = OptionalLong.empty();
+    }
+    return length;
+  }
+
+  /**
+   * Read recorded bytes, pulling more from the origin if needed.
+   *
+   * @param position Position to read from
+   * @param bytes Destination
+   * @param off Offset in the destination
+   * @param len Max count of bytes to read
+   * @return Count of bytes read, or -1 at the end of JSON
+   * @throws IOException If fails
+   */
+  synchronized int read(
+    final long position,
+    final byte[] bytes,
+    final int off,
+    final int len
+  ) throws IOException {
+    final int read;
+    if (this.recorded(position + 1L) <= position) {
+      read = -1;
+    } else {
+      final int count = (int) Math.min(len, this.size - position);
+      if (this.spill == null) {
+        System.arraycopy(this.memory, (int) position, bytes, off, count);
+      } else {
+        final ByteBuffer target = ByteBuffer.wrap(bytes, off, count);
+        while (target.hasRemaining()) {
+          this.spill.read(target, position + target.position() - off);
+        }
+      }
+      read = count;
+    }
+    return read;
+  }
+
+  /**
+   * Record the origin, until the given count of bytes is recorded or
+   * the origin ends.
+   *
+   * @param wanted Count of bytes wanted
+   * @return Count of recorded bytes
+   * @throws IOException If fails
+   */
+  synchronized long recorded(final long wanted) throws IOException {
+    while (!this.done && this.size < wanted) {
+      if (this.chunk == null) {
+        this.chunk = new byte[RecordedJson.CHUNK];
+      }
+      final int read = this.origin.read(this.chunk);
+      if (read < 0) {
+        this.done = true;
+        this.chunk = null;
+        this.origin.close();
+      } else {
+        this.append(this.chunk, read);
+      }
+    }
+    return this.size;
+  }
+
+  /**
+   * Write all bytes from the position into the stream, recording the rest
+   * of the origin first.
+   *
+   * @param position Position to write from
+   * @param out Stream
+   * @return Count of written bytes
+   * @throws IOException If fails
+   */
+  synchronized long written(final long position, final OutputStream out)
+    throws IOException {
+    final long count = Math.max(0L, this.recorded(Long.MAX_VALUE) - position);
+    if (this.spill == null) {
+      out.write(this.memory, (int) position, (int) count);
+    } else {
+      final WritableByteChannel target = Channels.newChannel(out);
+      long sent = 0L;
+      while (sent < count) {
+        sent += this.spill.transferTo(position + sent, count - sent, target);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Count of bytes recorded so far.
+   *
+   * @return Count of bytes
+   */
+  synchronized long known() {
+    return this.size;
+  }
+
+  /**
+   * Append bytes to the recording.
+   *
+   * @param chunk Bytes
+   * @param count Count of bytes to append
+   * @throws IOException If fails
+   */
+  private void append(final byte[] chunk, final int count) throws IOException {
+    if (this.spill == null && this.size + count > this.threshold) {
+      this.spilled();
+    }
+    if (this.spill == null) {
+      if (this.size + count > this.memory.length) {
+        this.memory = Arrays.copyOf(
+          this.memory,
+          (int) Math.min(
+            this.threshold,
+            Math.max(this.size + count, this.memory.length * 2L)
+          )
+        );
+      }
+      System.arraycopy(chunk, 0, this.memory, (int) this.size, count);
+    } else {
+      final ByteBuffer source = ByteBuffer.wrap(chunk, 0, count);
+      while (source.hasRemaining()) {
+        this.spill.write(source, this.size + source.position());
+      }
+    }
+    this.size += count;
+  }
+
+  /**
+   * Move recorded bytes from memory into a temporary file.
+   *
+   * @throws IOException If fails
+   */
+  private void spilled() throws IOException {
+    final Path file = Files.createTempFile("eokson", ".json");
+    try {
+      this.spill = FileChannel.open(
+        file,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.DELETE_ON_CLOSE
+      );
+    } catch (final IOException ex) {
+      Files.deleteIfExists(file);
+      throw ex;
+    }
+    final ByteBuffer source = ByteBuffer.wrap(this.memory, 0, (int) this.size);
+    while (source.hasRemaining()) {
+      this.spill.write(source, source.position());
+    }
+    this.memory = new byte[0];
+  }
+
+  /**
+   * Stream over a recording, which has its own position.
+   *
+   * @since 0.4.0
+   */
+  @Mutable
+  private static final class Replay extends InputStream {
+
+    /**
+     * Recording.
+     */
+    private final RecordedJson recording;
+    /**
+     * Buffer for single byte reads.
+     */
+    private final byte[] single;
+    /**
+     * Position in the recording.
+     */
+    private long position;
+
+    /**
+     * Ctor.
+     *
+     * @param rec Recording
+     */
+    Replay(final RecordedJson rec) {
+      super();
+      this.recording = rec;
+      this.single = new byte[1];
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int next;
+      if (this.read(this.single, 0, 1) < 0) {
+        next = -1;
+      } else {
+        next = this.single[0] & 0xFF;
+      }
+      return next;
+    }
+
+    @Override
+    public int read(
+      final byte[] bytes,
+      final int off,
+      final int len
+    ) throws IOException {
+      final int read;
+      if (len == 0) {
+        read = 0;
+      } else {
+        read = this.recording.read(this.position, bytes, off, len);
+        if (read > 0) {
+          this.position += read;
+        }
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+      final long skipped;
+      if (count <= 0L) {
+        skipped = 0L;
+      } else {
+        skipped = Math.min(
+          count,
+          this.recording.recorded(this.position + count) - this.position
+        );
+        this.position += skipped;
+      }
+      return skipped;
+    }
+
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+      final long written = this.recording.written(this.position, out);
+      this.position += written;
+      return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.recording.recorded(Long.MAX_VALUE);
+    }
+
+    @Override
+    public int available() {
+      return (int) Math.min(
+        Math.max(0L, this.recording.known() - this.position),
+        Integer.MAX_VALUE
+      );
+    }
+  }
+}
@@ -19,41 +19,25 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package io.github.eocqrs.eokson;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.Spliterator;
 
 /**
- * AutoReset Decorator for {@link InputStream}.
+ * JSON Lines, which can be split by newlines into chunks, so each chunk is
+ * parsed by its own parser in parallel.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
  */
-final class AutoResetInputStream extends InputStream {
+interface Splittable {
 
   /**
-   * Origin InputStream.
-   */
-  private final InputStream origin;
-
-  /**
-   * Ctor.
+   * Records of JSON Lines, which can be split into chunks.
    *
-   * @param origin InputStream
+   * @param grain Chunks smaller than it are not split
+   * @param engine JSON Engine, which parses records
+   * @return Spliterator of records
    */
-  AutoResetInputStream(final InputStream origin) {
-    super();
-    origin.mark(1 << 24);
-    this.origin = origin;
-  }
-
-  @Override
-  public void close() throws IOException {
-    super.close();
-    this.origin.reset();
-  }
-
-  @Override
-  public int read() throws IOException {
-    return this.origin.read();
-  }
+  Spliterator<Jocument> lines(long grain, JsonEngine engine);
 }
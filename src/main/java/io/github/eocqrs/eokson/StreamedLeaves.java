@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Evaluate JSON Nodes at many paths, in a single pass over JSON tokens.
+ * <p>
+ * Like {@link StreamedNodeAt}, it never builds the tree of the whole JSON.
+ * It enters only subtrees, which some paths go through, and stops as soon
+ * as all paths are resolved. If a field is duplicated, the first one wins.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class StreamedLeaves implements Scalar<Map<String, JsonNode>> {
+
+  /**
+   * Paths.
+   */
+  private final PointerTree paths;
+  /**
+   * JSON.
+   */
+  private final Json json;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+
+  /**
+   * Ctor.
+   *
+   * @param pths Paths
+   * @param jsn JSON
+   */
+  StreamedLeaves(final PointerTree pths, final Json jsn) {
+    this(pths, jsn, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pths Paths
+   * @param jsn JSON
+   * @param eng JSON Engine
+   */
+  StreamedLeaves(
+    final PointerTree pths,
+    final Json jsn,
+    final JsonEngine eng
+  ) {
+    this.paths = pths;
+    this.json = jsn;
+    this.engine = eng;
+  }
+
+  @Override
+  public Map<String, JsonNode> value() {
+    return new Unchecked<>(
+      () -> {
+        final Map<String, JsonNode> found = new HashMap<>(this.paths.size());
+        try (
+          JsonParser parser =
+            this.engine.mapper().createParser(this.json.bytes())
+        ) {
+          final JsonToken token = parser.nextToken();
+          if (token != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(
+              parser,
+              ObjectNode.class,
+              "Expected JSON object, but got " + token
+            );
+          }
+          this.scan(parser, this.paths, found);
+        }
+        return found;
+      }
+    ).value();
+  }
+
+  /**
+   * Resolve paths of the tree against the value the parser stays at.
+   *
+   * @param parser Parser
+   * @param tree Paths relative to the current value
+   * @param found Nodes found by paths
+   * @throws IOException When something went wrong
+   */
+  private void scan(
+    final JsonParser parser,
+    final PointerTree tree,
+    final Map<String, JsonNode> found
+  ) throws IOException {
+    if (tree.terminal()) {
+      tree.resolve(parser.readValueAsTree(), found);
+    } else if (parser.currentToken() == JsonToken.START_OBJECT) {
+      while (this.pending(found)
+        && parser.nextToken() == JsonToken.FIELD_NAME) {
+        final PointerTree child = tree.field(parser.currentName());
+        parser.nextToken();
+        this.next(parser, child, found);
+      }
+    } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+      int index = 0;
+      while (this.pending(found)
+        && parser.nextToken() != JsonToken.END_ARRAY) {
+        this.next(parser, tree.element(index), found);
+        index += 1;
+      }
+    }
+  }
+
+  /**
+   * Resolve paths of the child or skip the current value.
+   *
+   * @param parser Parser
+   * @param child Paths relative to the current value, or NULL
+   * @param found Nodes found by paths
+   * @throws IOException When something went wrong
+   */
+  private void next(
+    final JsonParser parser,
+    final PointerTree child,
+    final Map<String, JsonNode> found
+  ) throws IOException {
+    if (child == null) {
+      parser.skipChildren();
+    } else {
+      this.scan(parser, child, found);
+    }
+  }
+
+  /**
+   * Tells if some paths are still not resolved.
+   *
+   * @param found Nodes found by paths
+   * @return True if some paths are not resolved yet
+   */
+  private boolean pending(final Map<String, JsonNode> found) {
+    return found.size() < this.paths.size();
+  }
+}
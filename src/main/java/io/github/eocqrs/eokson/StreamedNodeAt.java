@@ -0,0 +1,362 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Evaluate JSON Node at a given path, streaming over JSON tokens.
+ * <p>
+ * It never builds the tree of the whole JSON. Subtrees which do not
+ * match the path are skipped, and reading stops as soon as the path
+ * is resolved. Only the node found at the path is built. If a field
+ * is duplicated, the first one wins.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class StreamedNodeAt implements Scalar<Optional<JsonNode>> {
+
+  /**
+   * JSON Pointer.
+   */
+  private final JsonPointer path;
+  /**
+   * JSON.
+   */
+  private final Json json;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+
+  /**
+   * Ctor.
+   *
+   * @param pth  Path
+   * @param jsn JSON
+   */
+  StreamedNodeAt(final String pth, final Json jsn) {
+    this(new PointerOf(pth).value(), jsn);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pth JSON Pointer
+   * @param jsn JSON
+   */
+  StreamedNodeAt(final JsonPointer pth, final Json jsn) {
+    this(pth, jsn, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param pth JSON Pointer
+   * @param jsn JSON
+   * @param eng JSON Engine
+   */
+  StreamedNodeAt(
+    final JsonPointer pth,
+    final Json jsn,
+    final JsonEngine eng
+  ) {
+    this.path = pth;
+    this.json = jsn;
+    this.engine = eng;
+  }
+
+  @Override
+  public Optional<JsonNode> value() {
+    return this.read(
+      parser -> Optional.of(parser.readValueAsTree()),
+      Optional.empty()
+    );
+  }
+
+  /**
+   * Tells if there is a node at the path.
+   *
+   * @return Is present or not
+   */
+  public boolean present() {
+    return this.read(parser -> true, false);
+  }
+
+  /**
+   * Value of type {@code int} at the path, read right from the token.
+   *
+   * @return Optional int value, zero if the value is not a number
+   */
+  public OptionalInt intValue() {
+    return this.read(
+      parser -> {
+        int value = 0;
+        if (StreamedNodeAt.integral(parser)) {
+          value = parser.getIntValue();
+        } else if (parser.currentToken().isNumeric()) {
+          value = parser.getNumberValue().intValue();
+        }
+        return OptionalInt.of(value);
+      },
+      OptionalInt.empty()
+    );
+  }
+
+  /**
+   * Value of type {@code long} at the path, read right from the token.
+   *
+   * @return Optional long value, zero if the value is not a number
+   */
+  public OptionalLong longValue() {
+    return this.read(
+      parser -> {
+        long value = 0L;
+        if (StreamedNodeAt.integral(parser)
+          || StreamedNodeAt.integral(parser, JsonParser.NumberType.LONG)) {
+          value = parser.getLongValue();
+        } else if (parser.currentToken().isNumeric()) {
+          value = parser.getNumberValue().longValue();
+        }
+        return OptionalLong.of(value);
+      },
+      OptionalLong.empty()
+    );
+  }
+
+  /**
+   * Value of type {@code double} at the path, read right from the token.
+   *
+   * @return Optional double value, zero if the value is not a number
+   */
+  public OptionalDouble doubleValue() {
+    return this.read(
+      parser -> {
+        double value = 0.0;
+        if (parser.currentToken().isNumeric()) {
+          value = parser.getDoubleValue();
+        }
+        return OptionalDouble.of(value);
+      },
+      OptionalDouble.empty()
+    );
+  }
+
+  /**
+   * Exact value of type {@link BigDecimal} at the path, decoded right from
+   * the number text.
+   *
+   * @return Optional decimal value, zero if the value is not a number
+   */
+  public Optional<BigDecimal> decimalValue() {
+    return this.read(
+      parser -> {
+        BigDecimal value = BigDecimal.ZERO;
+        if (parser.currentToken().isNumeric()) {
+          value = parser.getDecimalValue();
+        }
+        return Optional.of(value);
+      },
+      Optional.empty()
+    );
+  }
+
+  /**
+   * Tells if the parser stays at an {@code int} number.
+   *
+   * @param parser Parser
+   * @return True if the value is an {@code int} number
+   * @throws IOException When something went wrong
+   */
+  private static boolean integral(final JsonParser parser)
+    throws IOException {
+    return StreamedNodeAt.integral(parser, JsonParser.NumberType.INT);
+  }
+
+  /**
+   * Tells if the parser stays at an integral number of the type.
+   *
+   * @param parser Parser
+   * @param type Number type
+   * @return True if the value is an integral number of the type
+   * @throws IOException When something went wrong
+   */
+  private static boolean integral(
+    final JsonParser parser,
+    final JsonParser.NumberType type
+  ) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+      && parser.getNumberType() == type;
+  }
+
+  /**
+   * Read the value at the path.
+   *
+   * @param leaf How to read the value, the parser stays at
+   * @param absent Result, if there is no value at the path
+   * @param <T> Result type
+   * @return Result
+   */
+  private <T> T read(final Read<T> leaf, final T absent) {
+    return new Unchecked<>(
+      () -> {
+        try (
+          JsonParser parser =
+            this.engine.mapper().createParser(this.json.bytes())
+        ) {
+          T result = absent;
+          if (this.seek(parser)) {
+            result = leaf.value(parser);
+          }
+          return result;
+        }
+      }
+    ).value();
+  }
+
+  /**
+   * Move the parser to the value at the path.
+   *
+   * @param parser Parser
+   * @return True if the parser stays at the value, false if no such value
+   * @throws IOException When something went wrong
+   */
+  private boolean seek(final JsonParser parser) throws IOException {
+    return StreamedNodeAt.seek(parser, this.path, false);
+  }
+
+  /**
+   * Move the parser to the value at the path.
+   *
+   * @param parser Parser
+   * @param path Path to the value
+   * @param arrays Whether the root can be an array
+   * @return True if the parser stays at the value, false if no such value
+   * @throws IOException When something went wrong
+   */
+  static boolean seek(
+    final JsonParser parser,
+    final JsonPointer path,
+    final boolean arrays
+  ) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (
+      token != JsonToken.START_OBJECT
+        && !(arrays && token == JsonToken.START_ARRAY)
+    ) {
+      throw MismatchedInputException.from(
+        parser,
+        ObjectNode.class,
+        "Expected JSON object, but got " + token
+      );
+    }
+    JsonPointer pointer = path;
+    boolean found = true;
+    while (found && !pointer.matches()) {
+      if (token == JsonToken.START_OBJECT) {
+        found = StreamedNodeAt.field(parser, pointer.getMatchingProperty());
+      } else if (token == JsonToken.START_ARRAY) {
+        found = StreamedNodeAt.element(parser, pointer.getMatchingIndex());
+      } else {
+        found = false;
+      }
+      token = parser.currentToken();
+      pointer = pointer.tail();
+    }
+    return found;
+  }
+
+  /**
+   * Move the parser to the value of the field in the current object.
+   *
+   * @param parser Parser, which stays at the start of the object
+   * @param name Field name
+   * @return True if the field is found
+   * @throws IOException When something went wrong
+   */
+  private static boolean field(final JsonParser parser, final String name)
+    throws IOException {
+    boolean found = false;
+    while (!found && parser.nextToken() == JsonToken.FIELD_NAME) {
+      found = name.equals(parser.currentName());
+      parser.nextToken();
+      if (!found) {
+        parser.skipChildren();
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Move the parser to the element of the current array.
+   *
+   * @param parser Parser, which stays at the start of the array
+   * @param index Element index
+   * @return True if the element is found
+   * @throws IOException When something went wrong
+   */
+  private static boolean element(final JsonParser parser, final int index)
+    throws IOException {
+    boolean found = false;
+    int current = 0;
+    while (
+      index >= 0 && !found && parser.nextToken() != JsonToken.END_ARRAY
+    ) {
+      found = current == index;
+      if (!found) {
+        parser.skipChildren();
+        current += 1;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Read of the value, the parser stays at.
+   *
+   * @param <T> Result type
+   */
+  private interface Read<T> {
+
+    /**
+     * Read the value.
+     *
+     * @param parser Parser, which stays at the value
+     * @return Result
+     * @throws IOException When something went wrong
+     */
+    T value(JsonParser parser) throws IOException;
+  }
+}
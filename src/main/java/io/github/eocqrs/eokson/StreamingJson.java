@@ -0,0 +1,368 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * JSON, which is written straight into a stream, while it is built, e.g.
+ * <pre>
+ * {@code
+ * try (StreamingJson json = new StreamingJson(out)) {
+ *     json.with("ocean", "Atlantic")
+ *         .object("nereid")
+ *             .with("hair", "black")
+ *             .with("age", 100)
+ *         .end()
+ *         .array("sisters");
+ *     for (String name : names) {
+ *         json.add(name);
+ *     }
+ * }
+ * }
+ * </pre>
+ * It uses the same {@code with(...)} vocabulary as {@link MutableJson},
+ * but builds no tree: every call writes its tokens into the generator, so
+ * memory does not grow with the size of JSON. Nested {@link Json}s are
+ * copied token by token. Scopes are opened by {@link #object(String)} or
+ * {@link #array(String)}, and closed by {@link #end()}; scopes, which are
+ * still open, are closed by {@link #close()}. The target is flushed but
+ * not closed.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class StreamingJson implements Closeable {
+
+  /**
+   * Generator.
+   */
+  private final JsonGenerator generator;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+
+  /**
+   * Ctor.
+   *
+   * @param out Stream to write into
+   */
+  public StreamingJson(final OutputStream out) {
+    this(out, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param out Stream to write into
+   * @param eng JSON Engine
+   */
+  public StreamingJson(final OutputStream out, final JsonEngine eng) {
+    this(
+      new Unchecked<>(() -> eng.factory().createGenerator(out)).value(),
+      eng
+    );
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param writer Writer to write into
+   */
+  public StreamingJson(final Writer writer) {
+    this(writer, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param writer Writer to write into
+   * @param eng JSON Engine
+   */
+  public StreamingJson(final Writer writer, final JsonEngine eng) {
+    this(
+      new Unchecked<>(() -> eng.factory().createGenerator(writer)).value(),
+      eng
+    );
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param gen Generator
+   * @param eng JSON Engine
+   */
+  private StreamingJson(final JsonGenerator gen, final JsonEngine eng) {
+    this.generator = gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.engine = eng;
+    this.written(JsonGenerator::writeStartObject);
+  }
+
+  /**
+   * Add a {@code String} field to the current object.
+   *
+   * @param name Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public StreamingJson with(final String name, final String value) {
+    return this.written(gen -> gen.writeStringField(name, value));
+  }
+
+  /**
+   * Add an {@code int} field to the current object.
+   *
+   * @param name Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public StreamingJson with(final String name, final int value) {
+    return this.written(gen -> gen.writeNumberField(name, value));
+  }
+
+  /**
+   * Add a {@code long} field to the current object.
+   *
+   * @param name Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public StreamingJson with(final String name, final long value) {
+    return this.written(gen -> gen.writeNumberField(name, value));
+  }
+
+  /**
+   * Add a {@code double} field to the current object.
+   *
+   * @param name Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public StreamingJson with(final String name, final double value) {
+    return this.written(gen -> gen.writeNumberField(name, value));
+  }
+
+  /**
+   * Add a {@code boolean} field to the current object.
+   *
+   * @param name Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public StreamingJson with(final String name, final boolean value) {
+    return this.written(gen -> gen.writeBooleanField(name, value));
+  }
+
+  /**
+   * Add a {@link Json} field to the current object. Its tokens are copied
+   * one by one, without building a tree.
+   *
+   * @param name Name of the field.
+   * @param value Value of the field.
+   * @return This JSON.
+   */
+  public StreamingJson with(final String name, final Json value) {
+    return this.written(
+      gen -> {
+        gen.writeFieldName(name);
+        this.copy(gen, value);
+      }
+    );
+  }
+
+  /**
+   * Open a nested object as a field of the current object.
+   *
+   * @param name Name of the field.
+   * @return This JSON, which writes into the nested object now.
+   */
+  public StreamingJson object(final String name) {
+    return this.written(gen -> gen.writeObjectFieldStart(name));
+  }
+
+  /**
+   * Open a nested array as a field of the current object.
+   *
+   * @param name Name of the field.
+   * @return This JSON, which writes into the nested array now.
+   */
+  public StreamingJson array(final String name) {
+    return this.written(gen -> gen.writeArrayFieldStart(name));
+  }
+
+  /**
+   * Open a nested object as an element of the current array.
+   *
+   * @return This JSON, which writes into the nested object now.
+   */
+  public StreamingJson object() {
+    return this.written(JsonGenerator::writeStartObject);
+  }
+
+  /**
+   * Open a nested array as an element of the current array.
+   *
+   * @return This JSON, which writes into the nested array now.
+   */
+  public StreamingJson array() {
+    return this.written(JsonGenerator::writeStartArray);
+  }
+
+  /**
+   * Add a {@code String} element to the current array.
+   *
+   * @param value Value of the element.
+   * @return This JSON.
+   */
+  public StreamingJson add(final String value) {
+    return this.written(gen -> gen.writeString(value));
+  }
+
+  /**
+   * Add a {@code long} element to the current array.
+   *
+   * @param value Value of the element.
+   * @return This JSON.
+   */
+  public StreamingJson add(final long value) {
+    return this.written(gen -> gen.writeNumber(value));
+  }
+
+  /**
+   * Add a {@code double} element to the current array.
+   *
+   * @param value Value of the element.
+   * @return This JSON.
+   */
+  public StreamingJson add(final double value) {
+    return this.written(gen -> gen.writeNumber(value));
+  }
+
+  /**
+   * Add a {@code boolean} element to the current array.
+   *
+   * @param value Value of the element.
+   * @return This JSON.
+   */
+  public StreamingJson add(final boolean value) {
+    return this.written(gen -> gen.writeBoolean(value));
+  }
+
+  /**
+   * Add a {@link Json} element to the current array. Its tokens are copied
+   * one by one, without building a tree.
+   *
+   * @param value Value of the element.
+   * @return This JSON.
+   */
+  public StreamingJson add(final Json value) {
+    return this.written(gen -> this.copy(gen, value));
+  }
+
+  /**
+   * Close the current object or array.
+   *
+   * @return This JSON, which writes into the enclosing scope now.
+   */
+  public StreamingJson end() {
+    return this.written(
+      gen -> {
+        if (gen.getOutputContext().inArray()) {
+          gen.writeEndArray();
+        } else {
+          gen.writeEndObject();
+        }
+      }
+    );
+  }
+
+  /**
+   * Close all open scopes, the root object as well, and flush the target.
+   */
+  @Override
+  public void close() {
+    this.written(
+      gen -> {
+        while (!gen.getOutputContext().inRoot()) {
+          this.end();
+        }
+        gen.close();
+      }
+    );
+  }
+
+  /**
+   * Write into the generator.
+   *
+   * @param write What to write
+   * @return This JSON
+   */
+  private StreamingJson written(final Write write) {
+    try {
+      write.into(this.generator);
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return this;
+  }
+
+  /**
+   * Copy tokens of the JSON into the generator.
+   *
+   * @param gen Generator
+   * @param json JSON
+   * @throws IOException If fails
+   */
+  private void copy(final JsonGenerator gen, final Json json)
+    throws IOException {
+    try (
+      JsonParser parser = this.engine.factory().createParser(json.bytes())
+    ) {
+      parser.nextToken();
+      gen.copyCurrentStructure(parser);
+    }
+  }
+
+  /**
+   * Write into a generator.
+   *
+   * @since 0.4.0
+   */
+  private interface Write {
+
+    /**
+     * Write.
+     *
+     * @param gen Generator
+     * @throws IOException If fails
+     */
+    void into(JsonGenerator gen) throws IOException;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Optional;
+
+/**
+ * Jackson tree, which a JSON is already backed by.
+ * <p>
+ * It lets documents of this library reuse the tree of each other, instead
+ * of writing it to bytes and parsing them back. Public documents keep
+ * their trees package-private, so they are checked by type here; inner
+ * JSONs of this package hand trees over as {@link Treed}. Other JSONs have
+ * none. Trees are never changed by the reader: {@link Jocument} only reads
+ * them, and {@link MutableJson} copies them.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class TreeOf implements Scalar<Optional<JsonNode>> {
+
+  /**
+   * JSON.
+   */
+  private final Json json;
+
+  /**
+   * Ctor.
+   *
+   * @param jsn JSON
+   */
+  TreeOf(final Json jsn) {
+    this.json = jsn;
+  }
+
+  @Override
+  public Optional<JsonNode> value() {
+    final Optional<JsonNode> tree;
+    if (this.json instanceof Treed) {
+      tree = ((Treed) this.json).tree();
+    } else if (this.json instanceof Jocument) {
+      tree = ((Jocument) this.json).tree();
+    } else if (this.json instanceof JsonOf) {
+      tree = ((JsonOf) this.json).tree();
+    } else if (this.json instanceof MutableJson) {
+      tree = ((MutableJson) this.json).tree();
+    } else if (this.json instanceof JsonEnvelope) {
+      tree = ((JsonEnvelope) this.json).tree();
+    } else {
+      tree = Optional.empty();
+    }
+    return tree;
+  }
+}
@@ -49,6 +49,8 @@ final class Unchecked<T> {
   T value() {
     try {
       return this.checked.value();
+    } catch (final RuntimeException e) {
+      throw e;
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     } catch (final Exception e) {
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JSON, which is checked to be well-formed, before it is read.
+ * <p>
+ * The check scans tokens of the origin once, on the first read, and
+ * builds no tree, so it is much cheaper than parsing. It fails with
+ * {@link IllegalArgumentException}, if the origin is malformed or has more
+ * than one value. Use it to guard {@link MutableJson#withRaw(String, Json)}
+ * against broken payloads.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class WellFormedJson implements Json {
+
+  /**
+   * Origin.
+   */
+  private final Json origin;
+  /**
+   * Checked once origin.
+   */
+  private final Cached<Json> checked;
+
+  /**
+   * Ctor.
+   *
+   * @param json JSON to check
+   */
+  public WellFormedJson(final Json json) {
+    this(json, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param json JSON to check
+   * @param engine JSON Engine, which scans the JSON
+   */
+  public WellFormedJson(final Json json, final JsonEngine engine) {
+    this.origin = json;
+    this.checked = new Cached<>(
+      () -> {
+        WellFormedJson.check(json, engine);
+        return json;
+      }
+    );
+  }
+
+  @Override
+  public InputStream bytes() {
+    return this.checked.value().bytes();
+  }
+
+  @Override
+  public String toString() {
+    return new String(new ByteArray(this.origin).value());
+  }
+
+  /**
+   * Scan tokens of the JSON.
+   *
+   * @param json JSON
+   * @param engine JSON Engine
+   */
+  private static void check(final Json json, final JsonEngine engine) {
+    try (
+      JsonParser parser = engine.factory().createParser(json.bytes())
+    ) {
+      if (parser.nextToken() == null) {
+        throw new IllegalArgumentException("JSON is empty");
+      }
+      parser.skipChildren();
+      final JsonToken rest = parser.nextToken();
+      if (rest != null) {
+        throw new IllegalArgumentException(
+          "JSON has more than one value, next is " + rest
+        );
+      }
+    } catch (final IOException ex) {
+      throw new IllegalArgumentException("JSON is malformed", ex);
+    }
+  }
+}
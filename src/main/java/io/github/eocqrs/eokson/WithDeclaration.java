@@ -22,6 +22,7 @@
 
 package io.github.eocqrs.eokson;
 
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 
@@ -33,9 +34,37 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
  */
 final class WithDeclaration implements Scalar<XmlMapper> {
 
+  /**
+   * XML Factory.
+   */
+  private final XmlFactory factory;
+
+  /**
+   * Ctor.
+   */
+  WithDeclaration() {
+    this(new XmlFactory());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param fctr XML Factory
+   */
+  WithDeclaration(final XmlFactory fctr) {
+    this.factory = fctr;
+  }
+
+  /**
+   * New XML Mapper over the factory, which writes XML declaration.
+   * It is thread-safe, as long as nobody reconfigures it, so it is built
+   * once by {@link JsonEngine} and shared.
+   *
+   * @return XML Mapper
+   */
   @Override
   public XmlMapper value() {
-    final XmlMapper xml = new XmlMapper();
+    final XmlMapper xml = new XmlMapper(this.factory);
     xml.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
     return xml;
   }
@@ -0,0 +1,332 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import ru.l3r8y.annotations.Mutable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * XML as JSON.
+ * <p>
+ * JSON bytes are produced lazily, while they are read: the XML is pulled
+ * by a streaming parser, one child of the root element at a time, and
+ * written as JSON, so only one child is held in memory, not a DOM or
+ * a tree of the whole document. Like {@code XmlMapper}, it drops the name
+ * of the root element and turns repeated sibling elements into arrays;
+ * repeated elements of the root are grouped when they follow each other.
+ * Repeated elements of the root, which do not follow each other, can't be
+ * grouped without holding them all in memory, so reading fails on them.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+public final class XMLJson implements Json {
+
+  /**
+   * Bytes of XML.
+   */
+  private final Json xml;
+  /**
+   * JSON Engine.
+   */
+  private final JsonEngine engine;
+
+  /**
+   * Ctor.
+   *
+   * @param text XML text, which is encoded in UTF-8, whatever the platform
+   *  charset is
+   */
+  public XMLJson(final String text) {
+    this(
+      new JsonOf(text.getBytes(StandardCharsets.UTF_8)),
+      JsonEngine.shared()
+    );
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param path Path to an XML file
+   */
+  public XMLJson(final Path path) {
+    this(new JsonOf(path), JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param stream XML in a stream
+   */
+  public XMLJson(final InputStream stream) {
+    this(stream, JsonEngine.shared());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param stream XML in a stream
+   * @param eng JSON Engine, which parses XML and writes JSON
+   */
+  public XMLJson(final InputStream stream, final JsonEngine eng) {
+    this(new JsonOf(stream), eng);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param bytes Bytes of XML
+   * @param eng JSON Engine
+   */
+  private XMLJson(final Json bytes, final JsonEngine eng) {
+    this.xml = bytes;
+    this.engine = eng;
+  }
+
+  @Override
+  public InputStream bytes() {
+    return new Transcoded(
+      new Unchecked<>(
+        () -> this.engine.xml().createParser(this.xml.bytes())
+      ).value(),
+      this.engine
+    );
+  }
+
+  @Override
+  public String toString() {
+    return new String(new ByteArray(this).value());
+  }
+
+  /**
+   * JSON bytes, transcoded from XML while they are read.
+   *
+   * @since 0.4.0
+   */
+  @Mutable
+  private static final class Transcoded extends InputStream {
+
+    /**
+     * XML parser.
+     */
+    private final JsonParser parser;
+    /**
+     * JSON Engine.
+     */
+    private final JsonEngine engine;
+    /**
+     * Written JSON, which is not read yet.
+     */
+    private final Chunk chunk;
+    /**
+     * JSON generator.
+     */
+    private final JsonGenerator generator;
+    /**
+     * Single byte, read by {@link #read()}.
+     */
+    private final byte[] single;
+    /**
+     * Names of the root children, which are written or pending.
+     */
+    private final Set<String> names;
+    /**
+     * Position of the next byte in the chunk.
+     */
+    private int position;
+    /**
+     * Is the root element started.
+     */
+    private boolean started;
+    /**
+     * Is the XML read to the end.
+     */
+    private boolean finished;
+    /**
+     * Name of the pending child.
+     */
+    private String name;
+    /**
+     * Value of the pending child.
+     */
+    private JsonNode pending;
+    /**
+     * Are children with the pending name written as an array.
+     */
+    private boolean repeated;
+
+    /**
+     * Ctor.
+     *
+     * @param prsr XML parser
+     * @param eng JSON Engine
+     */
+    Transcoded(final JsonParser prsr, final JsonEngine eng) {
+      super();
+      this.parser = prsr;
+      this.engine = eng;
+      this.chunk = new Chunk();
+      this.single = new byte[1];
+      this.names = new HashSet<>(16);
+      this.generator = new Unchecked<>(
+        () -> eng.mapper().createGenerator(this.chunk)
+      ).value();
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int next;
+      if (this.read(this.single, 0, 1) < 0) {
+        next = -1;
+      } else {
+        next = this.single[0] & 0xFF;
+      }
+      return next;
+    }
+
+    @Override
+    public int read(
+      final byte[] bytes,
+      final int off,
+      final int len
+    ) throws IOException {
+      while (this.position == this.chunk.size() && !this.finished) {
+        this.chunk.reset();
+        this.position = 0;
+        this.step();
+        this.generator.flush();
+      }
+      final int read;
+      if (len == 0) {
+        read = 0;
+      } else if (this.position == this.chunk.size()) {
+        read = -1;
+      } else {
+        read = Math.min(len, this.chunk.size() - this.position);
+        System.arraycopy(this.chunk.bytes(), this.position, bytes, off, read);
+        this.position += read;
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.parser.close();
+      this.generator.close();
+    }
+
+    /**
+     * Transcode the next child of the root element.
+     *
+     * @throws IOException If XML is malformed or a child of the root is
+     *  repeated apart from its siblings with the same name
+     */
+    private void step() throws IOException {
+      final JsonToken token = this.parser.nextToken();
+      if (!this.started) {
+        this.started = true;
+        if (token == JsonToken.START_OBJECT) {
+          this.generator.writeStartObject();
+        } else {
+          this.generator.writeTree(this.engine.xml().readTree(this.parser));
+          this.finished = true;
+        }
+      } else if (token == JsonToken.FIELD_NAME) {
+        final String child = this.parser.currentName();
+        this.parser.nextToken();
+        final JsonNode value = this.engine.xml().readTree(this.parser);
+        if (child.equals(this.name)) {
+          if (!this.repeated) {
+            this.generator.writeFieldName(child);
+            this.generator.writeStartArray();
+            this.repeated = true;
+          }
+          this.generator.writeTree(this.pending);
+        } else {
+          this.flushed();
+          if (!this.names.add(child)) {
+            throw new IOException(
+              String.format(
+                "Element <%s> of the root is repeated apart, not grouped",
+                child
+              )
+            );
+          }
+        }
+        this.name = child;
+        this.pending = value;
+      } else {
+        this.flushed();
+        this.generator.writeEndObject();
+        this.finished = true;
+      }
+    }
+
+    /**
+     * Write the pending child.
+     *
+     * @throws IOException If fails
+     */
+    private void flushed() throws IOException {
+      if (this.name != null) {
+        if (this.repeated) {
+          this.generator.writeTree(this.pending);
+          this.generator.writeEndArray();
+        } else {
+          this.generator.writeFieldName(this.name);
+          this.generator.writeTree(this.pending);
+        }
+      }
+      this.name = null;
+      this.pending = null;
+      this.repeated = false;
+    }
+  }
+
+  /**
+   * Buffer of written JSON, which can be read in place.
+   *
+   * @since 0.4.0
+   */
+  private static final class Chunk extends ByteArrayOutputStream {
+
+    /**
+     * Written bytes, without a copy.
+     *
+     * @return Bytes, valid up to {@link #size()}
+     */
+    byte[] bytes() {
+      return this.buf;
+    }
+  }
+}
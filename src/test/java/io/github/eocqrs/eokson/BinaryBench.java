@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for binary Smile and CBOR against textual JSON.
+ * <p>
+ * Encodes and decodes a typical event: a few header fields, an owner
+ * object and an array of line items. Decoding reads a couple of leaves,
+ * as a consumer of the bus does. Size of the encoded event is reported
+ * as the {@code size} secondary result of encoders, summed over measured
+ * iterations.
+ * Run it with {@code org.openjdk.jmh.Main BinaryBench} on the test
+ * classpath.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("JTCOP.RuleAllTestsHaveProductionClass")
+public class BinaryBench {
+
+  private Jocument event;
+
+  private byte[] text;
+
+  private byte[] smile;
+
+  private byte[] cbor;
+
+  @Setup
+  public void setUp() {
+    final StringBuilder json = new StringBuilder(1024)
+      .append("{\"id\":\"5f1c2a7e-9b3d-4c11-a2f0-7d6e8b9c0a13\",")
+      .append("\"type\":\"order.created\",\"version\":3,")
+      .append("\"timestamp\":1697040000123,")
+      .append("\"owner\":{\"id\":1042,\"name\":\"Jo\",\"region\":\"eu-west\"},")
+      .append("\"items\":[");
+    for (int idx = 0; idx < 10; ++idx) {
+      if (idx > 0) {
+        json.append(',');
+      }
+      json.append("{\"sku\":\"SKU-").append(1000 + idx)
+        .append("\",\"quantity\":").append(idx + 1)
+        .append(",\"price\":").append(9.99 + idx)
+        .append(",\"gift\":false}");
+    }
+    json.append("],\"total\":199.9}");
+    this.text = json.toString().getBytes(StandardCharsets.UTF_8);
+    this.event = new Jocument(new JsonOf(this.text));
+    this.smile = this.event.smile();
+    this.cbor = this.event.cbor();
+  }
+
+  @Benchmark
+  public byte[] encodeText(final Size size) {
+    final byte[] bytes =
+      this.event.textual().getBytes(StandardCharsets.UTF_8);
+    size.size = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public byte[] encodeSmile(final Size size) {
+    final byte[] bytes = this.event.smile();
+    size.size = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public byte[] encodeCbor(final Size size) {
+    final byte[] bytes = this.event.cbor();
+    size.size = bytes.length;
+    return bytes;
+  }
+
+  @Benchmark
+  public String decodeText() {
+    final Jocument doc = new Jocument(new JsonOf(this.text));
+    return doc.leaf("type") + doc.leafAsInt("/owner/id");
+  }
+
+  @Benchmark
+  public String decodeSmile() {
+    final Jocument doc = new Jocument(
+      new BinaryJson(this.smile, BinaryJson.Format.SMILE)
+    );
+    return doc.leaf("type") + doc.leafAsInt("/owner/id");
+  }
+
+  @Benchmark
+  public String decodeCbor() {
+    final Jocument doc = new Jocument(
+      new BinaryJson(this.cbor, BinaryJson.Format.CBOR)
+    );
+    return doc.leaf("type") + doc.leafAsInt("/owner/id");
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Size {
+
+    public long size;
+  }
+}
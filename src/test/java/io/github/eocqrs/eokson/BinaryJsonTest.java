@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Test case for {@link BinaryJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class BinaryJsonTest {
+
+  /**
+   * Event.
+   */
+  private static final String EVENT =
+    "{\"type\":\"created\",\"id\":42,\"tags\":[\"a\",\"b\"],\"ok\":true}";
+
+  @Test
+  void readsLeavesOfSmile() throws Exception {
+    final Jocument event = new Jocument(
+      new BinaryJson(
+        new ObjectMapper(new SmileFactory()).writeValueAsBytes(
+          new ObjectMapper().readTree(BinaryJsonTest.EVENT)
+        ),
+        BinaryJson.Format.SMILE
+      )
+    );
+    MatcherAssert.assertThat(
+      "Leaves are read from Smile",
+      event.leaf("type") + event.leafAsInt("id") + event.leaf("/tags/1"),
+      Matchers.equalTo("created42b")
+    );
+  }
+
+  @Test
+  void readsLeavesOfCbor() throws Exception {
+    MatcherAssert.assertThat(
+      "Leaves are read from CBOR",
+      new Jocument(
+        new BinaryJson(
+          new ByteArrayInputStream(
+            new ObjectMapper(new CBORFactory()).writeValueAsBytes(
+              new ObjectMapper().readTree(BinaryJsonTest.EVENT)
+            )
+          ),
+          BinaryJson.Format.CBOR
+        )
+      ).leafAsBool("ok"),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void writesTextualJson() {
+    MatcherAssert.assertThat(
+      "Textual JSON is written from binary",
+      new BinaryJson(
+        new Jocument(new JsonOf(BinaryJsonTest.EVENT)).smile(),
+        BinaryJson.Format.SMILE
+      ).toString(),
+      Matchers.equalTo(BinaryJsonTest.EVENT)
+    );
+  }
+
+  @Test
+  void encodesRoundTrip() {
+    for (final BinaryJson.Format format : BinaryJson.Format.values()) {
+      final Jocument origin = new Jocument(new JsonOf(BinaryJsonTest.EVENT));
+      final byte[] encoded;
+      if (format == BinaryJson.Format.SMILE) {
+        encoded = origin.smile();
+      } else {
+        encoded = origin.cbor();
+      }
+      MatcherAssert.assertThat(
+        String.format("Same tree after %s round trip", format),
+        new Jocument(new BinaryJson(encoded, format)).objectNode(),
+        Matchers.equalTo(origin.objectNode())
+      );
+    }
+  }
+
+  @Test
+  void tellsMissingBinary() {
+    MatcherAssert.assertThat(
+      "Empty binary is missing",
+      new Jocument(
+        new BinaryJson(new byte[0], BinaryJson.Format.CBOR)
+      ).isMissing(),
+      Matchers.is(true)
+    );
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Test case for {@link BufferStream}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class BufferStreamTest {
+
+  @Test
+  void readsBuffersInBulk() throws Exception {
+    MatcherAssert.assertThat(
+      "All buffers are read",
+      new String(
+        new BufferStream(
+          List.of(
+            ByteBuffer.wrap("{\"a\"".getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.allocate(0),
+            ByteBuffer.wrap(":1}".getBytes(StandardCharsets.UTF_8))
+          )
+        ).readAllBytes(),
+        StandardCharsets.UTF_8
+      ),
+      Matchers.equalTo("{\"a\":1}")
+    );
+  }
+
+  @Test
+  void skipsAcrossBuffers() throws Exception {
+    final InputStream stream = new BufferStream(
+      List.of(
+        ByteBuffer.wrap(new byte[] {1, 2}),
+        ByteBuffer.wrap(new byte[] {3, 4})
+      )
+    );
+    stream.skip(3L);
+    MatcherAssert.assertThat(
+      "Byte after skipped ones is read",
+      stream.read(),
+      Matchers.equalTo(4)
+    );
+  }
+
+  @Test
+  void tellsAvailableBytes() throws Exception {
+    final InputStream stream = new BufferStream(
+      List.of(
+        ByteBuffer.wrap(new byte[] {1, 2}),
+        ByteBuffer.wrap(new byte[] {3})
+      )
+    );
+    stream.read();
+    MatcherAssert.assertThat(
+      "Remaining bytes are available",
+      stream.available(),
+      Matchers.equalTo(2)
+    );
+  }
+
+  @Test
+  void keepsPositionsOfOrigin() throws Exception {
+    final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {7, 8});
+    new BufferStream(List.of(buffer)).readAllBytes();
+    MatcherAssert.assertThat(
+      "Origin buffer is not moved",
+      buffer.position(),
+      Matchers.equalTo(0)
+    );
+  }
+}
@@ -4,6 +4,9 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.SequenceInputStream;
+
 /**
  * Test case for {@link ByteArray}.
  *
@@ -26,4 +29,29 @@ final class ByteArrayTest {
       Matchers.equalTo(bytes)
     );
   }
+
+  @Test
+  void readsStreamLongerThanAvailable() {
+    final byte[] bytes = new byte[10_000];
+    bytes[9_999] = 7;
+    MatcherAssert.assertThat(
+      "All bytes are read past the available hint",
+      new ByteArray(
+        new SequenceInputStream(
+          new ByteArrayInputStream(bytes, 0, 100),
+          new ByteArrayInputStream(bytes, 100, 9_900)
+        )
+      ).value(),
+      Matchers.equalTo(bytes)
+    );
+  }
+
+  @Test
+  void givesReadOnlyBuffer() {
+    MatcherAssert.assertThat(
+      "Buffer is read-only",
+      new ByteArray(new JsonOf("{}")).buffer().isReadOnly(),
+      Matchers.is(true)
+    );
+  }
 }
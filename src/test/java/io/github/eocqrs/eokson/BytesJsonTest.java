@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.OptionalLong;
+
+/**
+ * Test case for {@link BytesJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class BytesJsonTest {
+
+  @Test
+  void knowsLength() {
+    MatcherAssert.assertThat(
+      "Length is known",
+      new BytesJson(new byte[] {'{', '}'}).knownLength(),
+      Matchers.equalTo(OptionalLong.of(2L))
+    );
+  }
+
+  @Test
+  void wrapsArrayWithoutCopy() {
+    final byte[] bytes = "{\"a\":1}".getBytes();
+    final ByteBuffer buffer = new BytesJson(bytes).asByteBuffer();
+    bytes[5] = '2';
+    MatcherAssert.assertThat(
+      "Buffer is a read-only view of the array",
+      buffer.isReadOnly() && buffer.get(5) == '2',
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void writesToStream() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BytesJson("{\"b\":2}".getBytes()).writeTo(out);
+    MatcherAssert.assertThat(
+      "Array is written",
+      out.toString(),
+      Matchers.equalTo("{\"b\":2}")
+    );
+  }
+
+  @Test
+  void writesToChannel() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BytesJson("{\"c\":3}".getBytes()).writeTo(Channels.newChannel(out));
+    MatcherAssert.assertThat(
+      "Array is written into channel",
+      out.toString(),
+      Matchers.equalTo("{\"c\":3}")
+    );
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test case for {@link Cached}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class CachedTest {
+
+  @Test
+  void computesOnceForManyThreads() throws Exception {
+    final AtomicInteger runs = new AtomicInteger();
+    final Cached<String> cached = new Cached<>(
+      () -> {
+        runs.incrementAndGet();
+        try {
+          Thread.sleep(20L);
+        } catch (final InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        return "computed";
+      }
+    );
+    final ExecutorService pool = Executors.newFixedThreadPool(8);
+    final CountDownLatch start = new CountDownLatch(1);
+    try {
+      final List<Future<String>> values = new ArrayList<>(8);
+      for (int idx = 0; idx < 8; ++idx) {
+        values.add(
+          pool.submit(
+            () -> {
+              start.await();
+              return cached.value();
+            }
+          )
+        );
+      }
+      start.countDown();
+      for (final Future<String> value : values) {
+        value.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    MatcherAssert.assertThat(
+      "Supplier runs once",
+      runs.get(),
+      Matchers.equalTo(1)
+    );
+  }
+
+  @Test
+  void retriesAfterFailure() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Cached<String> cached = new Cached<>(
+      () -> {
+        if (runs.incrementAndGet() == 1) {
+          throw new IllegalStateException("first run fails");
+        }
+        return "second";
+      }
+    );
+    Assertions.assertThrows(IllegalStateException.class, cached::value);
+    MatcherAssert.assertThat(
+      "Value is computed again after failure",
+      cached.value(),
+      Matchers.equalTo("second")
+    );
+  }
+
+  @Test
+  void knowsComputedValue() {
+    final Cached<String> cached = new Cached<>(() -> "known");
+    final boolean before = cached.known();
+    cached.value();
+    MatcherAssert.assertThat(
+      "Value is known after computing only",
+      List.of(before, cached.known()),
+      Matchers.contains(false, true)
+    );
+  }
+
+  @Test
+  void recomputesReclaimedValue() {
+    final AtomicInteger runs = new AtomicInteger();
+    final AtomicReference<Object> kept = new AtomicReference<>();
+    final Cached<Object> cached = new Cached<>(
+      () -> {
+        runs.incrementAndGet();
+        return new Object();
+      },
+      value -> {
+        kept.set(value);
+        return kept::get;
+      }
+    );
+    cached.value();
+    kept.set(null);
+    cached.value();
+    MatcherAssert.assertThat(
+      "Reclaimed value is computed again",
+      runs.get(),
+      Matchers.equalTo(2)
+    );
+  }
+
+  @Test
+  void keepsStrongValue() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Cached<Object> cached = new Cached<>(
+      () -> {
+        runs.incrementAndGet();
+        return new Object();
+      }
+    );
+    cached.value();
+    System.gc();
+    cached.value();
+    MatcherAssert.assertThat(
+      "Strong value is never computed again",
+      runs.get(),
+      Matchers.equalTo(1)
+    );
+  }
+}
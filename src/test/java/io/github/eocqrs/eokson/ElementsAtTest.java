@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test case for {@link ElementsAt}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class ElementsAtTest {
+
+  @Test
+  void streamsRootArray() {
+    try (
+      Stream<Jocument> elements = new ElementsAt(
+        JsonPointer.empty(),
+        new JsonOf("[{\"id\":1},{\"id\":2},{\"id\":3}]")
+      ).value()
+    ) {
+      MatcherAssert.assertThat(
+        "Elements of root array are read",
+        elements.map(element -> element.leafAsInt("id"))
+          .collect(Collectors.toList()),
+        Matchers.equalTo(List.of(1, 2, 3))
+      );
+    }
+  }
+
+  @Test
+  void streamsNestedArray() {
+    try (
+      Stream<Jocument> elements = new ElementsAt(
+        JsonPointer.compile("/export/items"),
+        new JsonOf(
+          "{\"skip\":{\"a\":[1,2]},\"export\":{\"items\":[{\"n\":\"x\"},{\"n\":\"y\"}]}}"
+        )
+      ).value()
+    ) {
+      MatcherAssert.assertThat(
+        "Elements of nested array are read",
+        elements.map(element -> element.leaf("n"))
+          .collect(Collectors.toList()),
+        Matchers.equalTo(List.of("x", "y"))
+      );
+    }
+  }
+
+  @Test
+  void readsElementsLazily() {
+    final AtomicInteger pulled = new AtomicInteger();
+    final byte[] bytes = ("[{\"id\":0}" + ",{\"id\":1}".repeat(100_000) + "]")
+      .getBytes();
+    final Json json = () -> new InputStream() {
+      private final ByteArrayInputStream origin =
+        new ByteArrayInputStream(bytes);
+
+      @Override
+      public int read() {
+        pulled.incrementAndGet();
+        return this.origin.read();
+      }
+    };
+    try (
+      Stream<Jocument> elements =
+        new ElementsAt(JsonPointer.empty(), json).value()
+    ) {
+      elements.findFirst();
+    }
+    MatcherAssert.assertThat(
+      "Only the head of the array is read",
+      pulled.get(),
+      Matchers.lessThan(bytes.length / 2)
+    );
+  }
+
+  @Test
+  void givesEmptyStreamWithoutArray() {
+    MatcherAssert.assertThat(
+      "No elements at missing path",
+      new ElementsAt(
+        JsonPointer.compile("/missing"),
+        new JsonOf("{\"a\":[1]}")
+      ).value().count(),
+      Matchers.equalTo(0L)
+    );
+  }
+
+  @Test
+  void failsOnScalarRoot() {
+    final UncheckedIOException error = Assertions.assertThrows(
+      UncheckedIOException.class,
+      () -> new ElementsAt(JsonPointer.empty(), new JsonOf("42")).value()
+    );
+    MatcherAssert.assertThat(
+      "Scalar root is not streamed",
+      error.getCause(),
+      Matchers.instanceOf(MismatchedInputException.class)
+    );
+  }
+
+  @Test
+  void closesSourceOnFailure() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    Assertions.assertThrows(
+      UncheckedIOException.class,
+      () -> new ElementsAt(
+        JsonPointer.compile("/a/b"),
+        () -> new ByteArrayInputStream("{\"a\":".getBytes()) {
+          @Override
+          public void close() {
+            closed.set(true);
+          }
+        }
+      ).value()
+    );
+    MatcherAssert.assertThat(
+      "Source is closed, when seek fails",
+      closed.get(),
+      Matchers.is(true)
+    );
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link Jocument} leaf accessors.
+ * <p>
+ * Reads a growing number of leaves from one document. Since the document
+ * is parsed once, the time per leaf stays flat. Run it with
+ * {@code org.openjdk.jmh.Main JocumentBench} on the test classpath.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("JTCOP.RuleAllTestsHaveProductionClass")
+public class JocumentBench {
+
+  @Param({"1", "10", "40"})
+  private int leaves;
+
+  private byte[] bytes;
+
+  private String[] paths;
+
+  @Setup
+  public void setUp() {
+    final MutableJson json = new MutableJson();
+    this.paths = new String[40];
+    for (int idx = 0; idx < this.paths.length; ++idx) {
+      this.paths[idx] = "/event/field" + idx;
+    }
+    final MutableJson event = new MutableJson();
+    for (int idx = 0; idx < 1000; ++idx) {
+      event.with("field" + idx, "value of the field number " + idx);
+    }
+    this.bytes = json.with("event", event).toString().getBytes();
+  }
+
+  @Benchmark
+  public void readsLeaves(final Blackhole hole) {
+    final Jocument doc = new Jocument(new JsonOf(this.bytes));
+    for (int idx = 0; idx < this.leaves; ++idx) {
+      hole.consume(doc.leaf(this.paths[idx]));
+    }
+  }
+}
@@ -24,7 +24,10 @@ package io.github.eocqrs.eokson;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
@@ -32,9 +35,20 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Test case for {@link Jocument}.
@@ -152,6 +166,23 @@ final class JocumentTest {
     );
   }
 
+  @Test
+  void takesWholeJsonAtEmptyPath() {
+    MatcherAssert.assertThat(
+      "Empty path is the whole JSON",
+      new Jocument(new JsonOf("{\"a\":\"b\"}")).at("").leaf("a"),
+      Matchers.equalTo("b")
+    );
+  }
+
+  @Test
+  void rejectsPathWithoutSlashAt() {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new Jocument(new JsonOf("{\"a\":{}}")).at("a")
+    );
+  }
+
   @Test
   void readsLeafInArray() {
     MatcherAssert.assertThat(
@@ -1143,4 +1174,455 @@ final class JocumentTest {
       new IsEqual<>(false)
     );
   }
+
+  @Test
+  void parsesOriginOnce() {
+    final AtomicInteger reads = new AtomicInteger();
+    final Jocument json = new Jocument(
+      () -> {
+        reads.incrementAndGet();
+        return new ByteArrayInputStream(
+          "{\"field1\":\"value1\",\"field2\":2}".getBytes()
+        );
+      }
+    );
+    json.leaf("field1");
+    json.leafAsInt("field2");
+    json.optLeaf("/nothing");
+    json.textual();
+    MatcherAssert.assertThat(
+      "Origin is parsed once",
+      reads.get(),
+      new IsEqual<>(1)
+    );
+  }
+
+  @Test
+  void keepsTreeWhenObjectNodeChanges() {
+    final Jocument json = new Jocument(
+      new JsonOf("{\"field1\":\"value1\"}")
+    );
+    json.objectNode().put("field1", "changed");
+    MatcherAssert.assertThat(
+      "Tree is not changed through object node",
+      json.leaf("field1"),
+      new IsEqual<>("value1")
+    );
+  }
+
+  @Test
+  void readsConcurrently() throws Exception {
+    final Jocument json = new Jocument(new JsonOf(this.deep));
+    final ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String>> hairs = new ArrayList<>(64);
+      for (int idx = 0; idx < 64; ++idx) {
+        hairs.add(
+          pool.submit(() -> json.leaf("/ocean/rock1/nereid2/hair"))
+        );
+      }
+      for (final Future<String> hair : hairs) {
+        MatcherAssert.assertThat(
+          "Reads the same leaf from many threads",
+          hair.get(),
+          new IsEqual<>("red")
+        );
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void readsStreamedLeaves() {
+    final Jocument json = new Jocument(new JsonOf(this.deep)).streamed();
+    MatcherAssert.assertThat(
+      "Streamed leaf in right format",
+      json.leaf("/ocean/rock1/nereid2/hair"),
+      new IsEqual<>("red")
+    );
+    MatcherAssert.assertThat(
+      "Streamed int leaf in right format",
+      json.leafAsInt("/ocean/rock1/nereid1/age"),
+      new IsEqual<>(100)
+    );
+  }
+
+  @Test
+  void readsNoTreeWhenStreamed() {
+    final AtomicInteger reads = new AtomicInteger();
+    final Jocument json = new Jocument(
+      () -> {
+        reads.incrementAndGet();
+        return new ByteArrayInputStream("{\"first\":1,\"x\":".getBytes());
+      }
+    ).streamed();
+    MatcherAssert.assertThat(
+      "Streamed leaf is read from malformed tail",
+      json.leafAsInt("first"),
+      new IsEqual<>(1)
+    );
+    MatcherAssert.assertThat(
+      "Streamed lookup reads origin",
+      reads.get(),
+      new IsEqual<>(1)
+    );
+  }
+
+  @Test
+  void readsBuiltTreeWhenStreamed() {
+    final AtomicInteger reads = new AtomicInteger();
+    final Jocument json = new Jocument(
+      () -> {
+        reads.incrementAndGet();
+        return new ByteArrayInputStream("{\"first\":1}".getBytes());
+      }
+    ).streamed();
+    json.textual();
+    json.leafAsInt("first");
+    json.has("first");
+    MatcherAssert.assertThat(
+      "Built tree is used for leaves",
+      reads.get(),
+      new IsEqual<>(1)
+    );
+  }
+
+  @Test
+  void checksLeafIsPresent() {
+    MatcherAssert.assertThat(
+      "Leaf is present",
+      new Jocument(new JsonOf(this.deep)).has("/ocean/rock2/nereid3"),
+      new IsEqual<>(true)
+    );
+  }
+
+  @Test
+  void checksStreamedLeafIsNotPresent() {
+    MatcherAssert.assertThat(
+      "Streamed leaf is not present",
+      new Jocument(new JsonOf(this.deep)).streamed().has("/ocean/rock3"),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void readsStreamedLeavesTogether() {
+    final Leaves leaves = new Jocument(new JsonOf(this.deep))
+      .streamed()
+      .leaves(
+        new PathSet(
+          "/ocean/rock1/nereid2/hair",
+          "/ocean/rock1/nereid1/age",
+          "/ocean/rock9"
+        )
+      );
+    MatcherAssert.assertThat(
+      "Leaves in right format",
+      leaves.leaf("/ocean/rock1/nereid2/hair")
+        + leaves.leafAsInt("/ocean/rock1/nereid1/age")
+        + leaves.has("/ocean/rock9"),
+      new IsEqual<>("red100false")
+    );
+  }
+
+  @Test
+  void readsLeavesByCompiledPath() {
+    final Pointer hair = new Pointer("/ocean/rock1/nereid2/hair");
+    final Jocument json = new Jocument(new JsonOf(this.deep));
+    MatcherAssert.assertThat(
+      "Leaf by compiled path in right format",
+      json.leaf(hair) + json.at(new Pointer("/ocean/rock1")).has("nereid1"),
+      new IsEqual<>("redtrue")
+    );
+  }
+
+  @Test
+  void sharesTreeWithNestedJson() {
+    final AtomicInteger reads = new AtomicInteger();
+    final Jocument json = new Jocument(
+      () -> {
+        reads.incrementAndGet();
+        return new ByteArrayInputStream(
+          "{\"a\":{\"b\":{\"c\":\"deep\"}}}".getBytes()
+        );
+      }
+    );
+    MatcherAssert.assertThat(
+      "Nested leaf in right format",
+      json.at("/a").at("/b").leaf("c") + json.at("/a/b").textual(),
+      new IsEqual<>("deep{\"c\":\"deep\"}")
+    );
+    MatcherAssert.assertThat(
+      "Nested JSONs share the tree",
+      reads.get(),
+      new IsEqual<>(1)
+    );
+  }
+
+  @Test
+  void readsBytesOfNestedJson() {
+    MatcherAssert.assertThat(
+      "Nested JSON bytes in right format",
+      new String(
+        new Jocument(new JsonOf(this.deep))
+          .at("/ocean/rock1/nereid1/associates")
+          .byteArray()
+      ),
+      new IsEqual<>("[{\"name\":\"Jason\"},{\"name\":\"Thetis\"}]")
+    );
+  }
+
+  @Test
+  void knowsNestedNullIsMissing() {
+    final Jocument json = new Jocument(new JsonOf("{\"a\":null,\"b\":{}}"));
+    MatcherAssert.assertThat(
+      "Nested null is missing",
+      json.at("/a").isMissing(),
+      new IsEqual<>(true)
+    );
+    MatcherAssert.assertThat(
+      "Nested empty JSON is not missing",
+      json.at("/b").isMissing(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void knowsIfMissingWithoutReadingAllBytes() {
+    MatcherAssert.assertThat(
+      "Malformed JSON is not missing",
+      new Jocument(new JsonOf("{\"broken\":")).isMissing(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void readsPrimitiveLeaves() {
+    final Jocument json = new Jocument(
+      new JsonOf("{\"event\":{\"id\":9007199254740993,\"n\":3,\"t\":0.5}}")
+    );
+    MatcherAssert.assertThat(
+      "Primitive leaves in right format",
+      json.leafAsLong("/event/id")
+        + " " + json.optIntLeaf("/event/n").getAsInt()
+        + " " + json.optDoubleLeaf("/event/t").getAsDouble()
+        + " " + json.optLongLeaf("/event/x").isPresent(),
+      new IsEqual<>("9007199254740993 3 0.5 false")
+    );
+  }
+
+  @Test
+  void readsDecimalLeaf() {
+    MatcherAssert.assertThat(
+      "Decimal leaf in right format",
+      new Jocument(new JsonOf("{\"price\":19.99}")).leafAsBigDecimal("price"),
+      new IsEqual<>(new BigDecimal("19.99"))
+    );
+  }
+
+  @Test
+  void readsExactStreamedDecimalLeaf() {
+    MatcherAssert.assertThat(
+      "Streamed decimal leaf is exact",
+      new Jocument(new JsonOf("{\"price\":0.1000000000000000000001}"))
+        .streamed()
+        .leafAsBigDecimal("price"),
+      new IsEqual<>(new BigDecimal("0.1000000000000000000001"))
+    );
+  }
+
+  @Test
+  void throwsOnNonexistentLongLeaf() {
+    Assertions.assertTrue(
+      Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new Jocument(new JsonOf("{}")).leafAsLong("/id")
+      ).getMessage().contains("No such field")
+    );
+  }
+
+  @Test
+  void readsNodeBackedJsonWithoutWritingIt() {
+    final ObjectNode node = new ObjectMapper().createObjectNode();
+    node.put("name", "tree");
+    node.putPOJO("opaque", new Object());
+    MatcherAssert.assertThat(
+      "Leaf is read from the node",
+      new Jocument(new JsonOf(node)).leaf("name"),
+      Matchers.equalTo("tree")
+    );
+  }
+
+  @Test
+  void knowsMissingNodeBackedJson() {
+    MatcherAssert.assertThat(
+      "Null node is missing",
+      new Jocument(
+        new JsonOf(NullNode.getInstance())
+      ).isMissing(),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void givesByteBufferWithAllBytes() {
+    final String text = "{\"sea\":\"Aegean\"}";
+    final ByteBuffer buffer =
+      new Jocument(new JsonOf(text)).byteBuffer();
+    final byte[] read = new byte[buffer.remaining()];
+    buffer.get(read);
+    MatcherAssert.assertThat(
+      "Buffer has all bytes",
+      new String(read),
+      Matchers.equalTo(text)
+    );
+  }
+
+  @Test
+  void givesReadOnlyByteBuffer() {
+    MatcherAssert.assertThat(
+      "Buffer is read-only",
+      new Jocument(new JsonOf("{\"sea\":\"Aegean\"}"))
+        .byteBuffer()
+        .isReadOnly(),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void streamsElementsOfRootArray() {
+    try (
+      Stream<Jocument> elements = new Jocument(
+        new JsonOf("[{\"name\":\"Thetis\"},{\"name\":\"Galatea\"}]")
+      ).elements()
+    ) {
+      MatcherAssert.assertThat(
+        "Elements of root array are streamed",
+        elements.map(element -> element.leaf("name"))
+          .collect(Collectors.toList()),
+        Matchers.contains("Thetis", "Galatea")
+      );
+    }
+  }
+
+  @Test
+  void streamsElementsOfBuiltTree() {
+    final Jocument document = new Jocument(
+      new JsonOf("{\"nereids\":[{\"age\":1},{\"age\":2}],\"sea\":\"Aegean\"}")
+    );
+    document.objectNode();
+    try (Stream<Jocument> elements = document.elements("/nereids")) {
+      MatcherAssert.assertThat(
+        "Elements are taken from the tree",
+        elements.mapToInt(element -> element.leafAsInt("age")).sum(),
+        Matchers.equalTo(3)
+      );
+    }
+  }
+
+  @Test
+  void streamsNoElementsOfNonArray() {
+    MatcherAssert.assertThat(
+      "Object has no elements",
+      new Jocument(new JsonOf("{\"sea\":{\"name\":\"Aegean\"}}"))
+        .elements("/sea")
+        .count(),
+      Matchers.equalTo(0L)
+    );
+  }
+
+  @Test
+  void encodesSmileAndCbor() throws Exception {
+    final Jocument doc = new Jocument(new JsonOf("{\"sea\":\"Aegean\"}"));
+    MatcherAssert.assertThat(
+      "Smile and CBOR are decoded to the same tree",
+      List.of(
+        new ObjectMapper(new SmileFactory()).readTree(doc.smile()),
+        new ObjectMapper(new CBORFactory()).readTree(doc.cbor())
+      ),
+      Matchers.everyItem(Matchers.equalTo(doc.objectNode()))
+    );
+  }
+
+  @Test
+  void readsFirstDuplicatedFieldWhenStreamed() {
+    MatcherAssert.assertThat(
+      "First duplicated field wins, when streamed",
+      new Jocument(new JsonOf("{\"a\":{\"b\":1,\"b\":2}}"))
+        .streamed()
+        .leafAsInt("/a/b"),
+      Matchers.equalTo(1)
+    );
+  }
+
+  @Test
+  void readsExactDecimalLeafFromTree() {
+    final Jocument doc = new Jocument(
+      new JsonOf("{\"n\":{\"v\":12345678901234567890.123456789}}")
+    );
+    doc.objectNode();
+    MatcherAssert.assertThat(
+      "Decimal leaf of the tree is exact, as it is streamed",
+      doc.leafAsBigDecimal("/n/v"),
+      new IsEqual<>(doc.streamed().leafAsBigDecimal("/n/v"))
+    );
+    MatcherAssert.assertThat(
+      "Decimal leaf of the tree keeps all digits",
+      doc.leafAsBigDecimal("/n/v"),
+      new IsEqual<>(new BigDecimal("12345678901234567890.123456789"))
+    );
+  }
+
+  @Test
+  void readsExactDecimalLeafOfNestedJson() {
+    MatcherAssert.assertThat(
+      "Decimal leaf of nested JSON keeps all digits",
+      new Jocument(
+        new JsonOf("{\"n\":{\"v\":12345678901234567890.123456789}}")
+      ).at("/n").leafAsBigDecimal("v"),
+      new IsEqual<>(new BigDecimal("12345678901234567890.123456789"))
+    );
+  }
+
+  @Test
+  void keepsTrailingZerosOfDecimalLeaf() {
+    MatcherAssert.assertThat(
+      "Decimal leaf of the tree keeps its scale",
+      new Jocument(new JsonOf("{\"price\":1.10}")).leafAsBigDecimal("price"),
+      new IsEqual<>(new BigDecimal("1.10"))
+    );
+  }
+
+  @Test
+  void readsExactDecimalLeafOfElement() {
+    try (
+      Stream<Jocument> elements = new Jocument(
+        new JsonOf("[{\"v\":12345678901234567890.123456789}]")
+      ).elements()
+    ) {
+      MatcherAssert.assertThat(
+        "Decimal leaf of element keeps all digits",
+        elements.map(element -> element.leafAsBigDecimal("v"))
+          .collect(Collectors.toList()),
+        Matchers.contains(new BigDecimal("12345678901234567890.123456789"))
+      );
+    }
+  }
+
+  @Test
+  void readsExactDecimalLeafOfLine() {
+    try (
+      Stream<Jocument> lines = new JsonLines(
+        new JsonOf("{\"v\":12345678901234567890.123456789}\n")
+      ).stream()
+    ) {
+      MatcherAssert.assertThat(
+        "Decimal leaf of line keeps all digits",
+        lines.map(line -> line.leafAsBigDecimal("v"))
+          .collect(Collectors.toList()),
+        Matchers.contains(new BigDecimal("12345678901234567890.123456789"))
+      );
+    }
+  }
 }
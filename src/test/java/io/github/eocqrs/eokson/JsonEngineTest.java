@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test case for {@link JsonEngine}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class JsonEngineTest {
+
+  /**
+   * Engine, which reads single quotes.
+   */
+  private static final JsonEngine QUOTES = new JsonEngine(
+    JsonFactory.builder()
+      .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+      .build()
+  );
+
+  @Test
+  void parsesByEngineOfInstance() {
+    MatcherAssert.assertThat(
+      "JSON is parsed by the engine",
+      new Jocument(new JsonOf("{'a':{'b':'c'}}"), JsonEngineTest.QUOTES)
+        .at("/a")
+        .leaf("b"),
+      Matchers.equalTo("c")
+    );
+  }
+
+  @Test
+  void streamsByEngineOfInstance() {
+    MatcherAssert.assertThat(
+      "Leaf is streamed by the engine",
+      new Jocument(new JsonOf("{'a':[1,2]}"), JsonEngineTest.QUOTES)
+        .streamed()
+        .leafAsInt("/a/1"),
+      Matchers.equalTo(2)
+    );
+  }
+
+  @Test
+  void appliesReadConstraints() {
+    final JsonEngine engine = new JsonEngine(
+      JsonFactory.builder()
+        .streamReadConstraints(
+          StreamReadConstraints.builder().maxNumberLength(3).build()
+        )
+        .build()
+    );
+    Assertions.assertThrows(
+      UncheckedIOException.class,
+      () -> new Jocument(new JsonOf("{\"n\":123456}"), engine).objectNode()
+    );
+  }
+
+  @Test
+  void readsLinesByEngine() {
+    try (
+      Stream<Jocument> lines = new JsonLines(
+        new JsonOf("{'id':1}\n{'id':2}\n"),
+        JsonEngineTest.QUOTES
+      ).stream()
+    ) {
+      MatcherAssert.assertThat(
+        "Records are parsed by the engine",
+        lines.map(line -> line.leafAsInt("id")).collect(Collectors.toList()),
+        Matchers.contains(1, 2)
+      );
+    }
+  }
+
+  @Test
+  void keepsGivenFactoriesIntact() {
+    final JsonFactory json = new JsonFactory();
+    final XmlFactory xml = new XmlFactory();
+    new JsonEngine(json, xml);
+    MatcherAssert.assertThat(
+      "Factories are neither bound, nor reconfigured",
+      json.getCodec() == null
+        && !xml.isEnabled(ToXmlGenerator.Feature.WRITE_XML_DECLARATION),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void writesSmileByGivenFactory() {
+    MatcherAssert.assertThat(
+      "Smile is written without header",
+      new Jocument(
+        new JsonOf("{}"),
+        new JsonEngine(
+          new JsonFactory(),
+          new XmlFactory(),
+          SmileFactory.builder()
+            .disable(SmileGenerator.Feature.WRITE_HEADER)
+            .build(),
+          new CBORFactory()
+        )
+      ).smile(),
+      Matchers.equalTo(new byte[] {(byte) 0xFA, (byte) 0xFB})
+    );
+  }
+
+  @Test
+  void usesSharedEngine() {
+    final JsonEngine previous = JsonEngine.shared();
+    JsonEngine.share(JsonEngineTest.QUOTES);
+    try {
+      MatcherAssert.assertThat(
+        "Shared engine is used by default",
+        new XMLJson(
+          new ByteArrayInputStream(
+            "<r><a>1</a></r>".getBytes(StandardCharsets.UTF_8)
+          )
+        ).toString().equals("{\"a\":\"1\"}")
+          && new Jocument(new JsonOf("{'a':'b'}")).leaf("a").equals("b"),
+        Matchers.is(true)
+      );
+    } finally {
+      JsonEngine.share(previous);
+    }
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Test case for {@link JsonFeed}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class JsonFeedTest {
+
+  @Test
+  void publishesLinesSplitAcrossChunks() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(Long.MAX_VALUE);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(
+      feed, "{\"name\":\"The", "tis\"}\n{\"na", "me\":\"Doris\"}"
+    );
+    feed.end();
+    MatcherAssert.assertThat(
+      "Documents are published and completed",
+      collected.events,
+      Matchers.contains("Thetis", "Doris", "complete")
+    );
+  }
+
+  @Test
+  void publishesElementsOfArray() {
+    final JsonFeed feed = new JsonFeed(JsonFeed.Framing.ARRAY);
+    final Collected collected = new Collected(Long.MAX_VALUE);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(
+      feed, "[{\"name\":\"Galatea\"},", "{\"name\":\"Nerites\"}]"
+    );
+    MatcherAssert.assertThat(
+      "Elements are published and completed at the end of array",
+      collected.events,
+      Matchers.contains("Galatea", "Nerites", "complete")
+    );
+  }
+
+  @Test
+  void waitsForDemand() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(1L);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    MatcherAssert.assertThat(
+      "Documents are published only on demand",
+      collected.events,
+      Matchers.contains("a")
+    );
+  }
+
+  @Test
+  void keepsBacklogWithoutDemand() {
+    final JsonFeed feed = new JsonFeed();
+    feed.subscribe(new Collected(1L));
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    MatcherAssert.assertThat(
+      "Bytes wait in the backlog",
+      feed.backlog(),
+      Matchers.greaterThan(0L)
+    );
+  }
+
+  @Test
+  void publishesOnMoreDemand() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(1L);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    collected.subscription.request(2L);
+    MatcherAssert.assertThat(
+      "Waiting documents are published on demand",
+      collected.events,
+      Matchers.contains("a", "b", "c")
+    );
+  }
+
+  @Test
+  void failsOnMalformedJson() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(Long.MAX_VALUE);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(feed, "{\"name\":}");
+    MatcherAssert.assertThat(
+      "Error is published",
+      collected.events,
+      Matchers.contains("error")
+    );
+  }
+
+  @Test
+  void dropsChunksAfterError() {
+    final JsonFeed feed = new JsonFeed();
+    feed.subscribe(new Collected(Long.MAX_VALUE));
+    JsonFeedTest.fed(feed, "{\"name\":}");
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n");
+    MatcherAssert.assertThat(
+      "Chunks are not queued after error",
+      feed.backlog(),
+      Matchers.equalTo(0L)
+    );
+  }
+
+  @Test
+  void signalsErrorOfWrongRequest() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(1L);
+    feed.subscribe(collected);
+    collected.subscription.request(0L);
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n");
+    MatcherAssert.assertThat(
+      "Error is published instead of documents",
+      collected.events,
+      Matchers.contains("error")
+    );
+  }
+
+  @Test
+  void rejectsSecondSubscriber() {
+    final JsonFeed feed = new JsonFeed();
+    feed.subscribe(new Collected(1L));
+    final Collected second = new Collected(1L);
+    feed.subscribe(second);
+    MatcherAssert.assertThat(
+      "Second subscriber gets an error",
+      second.events,
+      Matchers.contains("error")
+    );
+  }
+
+  @Test
+  void dropsChunksAfterCancel() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(1L);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    collected.subscription.cancel();
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    MatcherAssert.assertThat(
+      "Chunks are not queued after cancel",
+      feed.backlog(),
+      Matchers.equalTo(0L)
+    );
+  }
+
+  @Test
+  void publishesNothingAfterCancel() {
+    final JsonFeed feed = new JsonFeed();
+    final Collected collected = new Collected(1L);
+    feed.subscribe(collected);
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    collected.subscription.cancel();
+    collected.subscription.request(2L);
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    MatcherAssert.assertThat(
+      "No documents are published after cancel",
+      collected.events,
+      Matchers.contains("a")
+    );
+  }
+
+  @Test
+  void cancelsFailingSubscriber() {
+    final JsonFeed feed = new JsonFeed();
+    final Failing failing = new Failing();
+    feed.subscribe(failing);
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    MatcherAssert.assertThat(
+      "Failing subscriber gets no more documents",
+      failing.calls,
+      Matchers.equalTo(1)
+    );
+  }
+
+  @Test
+  void doesNotStallOnFailingSubscriber() {
+    final JsonFeed feed = new JsonFeed();
+    feed.subscribe(new Failing());
+    JsonFeedTest.fed(feed, "{\"name\":\"a\"}\n", "{\"name\":\"b\"}\n");
+    JsonFeedTest.fed(feed, "{\"name\":\"c\"}\n");
+    MatcherAssert.assertThat(
+      "Feed does not stall on failing subscriber",
+      feed.backlog(),
+      Matchers.equalTo(0L)
+    );
+  }
+
+  private static void fed(final JsonFeed feed, final String... chunks) {
+    for (final String chunk : chunks) {
+      feed.feed(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+  }
+
+  /**
+   * Subscriber, which collects names of documents and signals.
+   *
+   * @since 0.4.0
+   */
+  private static final class Collected implements Flow.Subscriber<Jocument> {
+
+    private final long initial;
+
+    private final List<String> events = new ArrayList<>(4);
+
+    private Flow.Subscription subscription;
+
+    Collected(final long initial) {
+      this.initial = initial;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription sub) {
+      this.subscription = sub;
+      sub.request(this.initial);
+    }
+
+    @Override
+    public void onNext(final Jocument item) {
+      this.events.add(item.leaf("name"));
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      this.events.add("error");
+    }
+
+    @Override
+    public void onComplete() {
+      this.events.add("complete");
+    }
+  }
+
+  /**
+   * Subscriber, which fails on every document.
+   *
+   * @since 0.4.0
+   */
+  private static final class Failing implements Flow.Subscriber<Jocument> {
+
+    private int calls;
+
+    @Override
+    public void onSubscribe(final Flow.Subscription sub) {
+      sub.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(final Jocument item) {
+      this.calls += 1;
+      throw new IllegalStateException("Subscriber fails");
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      throw new IllegalStateException("No error is expected", error);
+    }
+
+    @Override
+    public void onComplete() {
+      throw new IllegalStateException("No completion is expected");
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test case for {@link JsonLines}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class JsonLinesTest {
+
+  private static final String LINES = String.join(
+    "\n",
+    "{\"name\":\"Thetis\",\"age\":100}",
+    "",
+    "{\"name\":\"Galatea\",\"age\":200}",
+    "{\"name\":\"Ἀμφιτρίτη\",\"age\":300}",
+    ""
+  );
+
+  @Test
+  void readsAllRecords() {
+    try (
+      Stream<Jocument> records = new JsonLines(
+        new ByteArrayInputStream(
+          JsonLinesTest.LINES.getBytes(StandardCharsets.UTF_8)
+        )
+      ).stream()
+    ) {
+      MatcherAssert.assertThat(
+        "Records are read in order, in UTF-8",
+        records.map(record -> record.leaf("name"))
+          .collect(Collectors.toList()),
+        Matchers.contains("Thetis", "Galatea", "Ἀμφιτρίτη")
+      );
+    }
+  }
+
+  @Test
+  void readsRecordsFromFile() throws IOException {
+    final Path file = Files.createTempFile("lines", ".jsonl");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, JsonLinesTest.LINES, StandardCharsets.UTF_8);
+    try (Stream<Jocument> records = new JsonLines(file).stream()) {
+      MatcherAssert.assertThat(
+        "Records are summed",
+        records.mapToInt(record -> record.leafAsInt("age")).sum(),
+        Matchers.equalTo(600)
+      );
+    }
+  }
+
+  @Test
+  void readsRecordsLazily() {
+    try (
+      Stream<Jocument> records = new JsonLines(
+        new ByteArrayInputStream(
+          "{\"a\":1}\n{\"a\":2}\nbroken".getBytes(StandardCharsets.UTF_8)
+        )
+      ).stream()
+    ) {
+      MatcherAssert.assertThat(
+        "Records before broken one are read",
+        records.limit(2L).map(record -> record.leafAsInt("a"))
+          .collect(Collectors.toList()),
+        Matchers.equalTo(List.of(1, 2))
+      );
+    }
+  }
+
+  @Test
+  void closesSource() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    new JsonLines(
+      new ByteArrayInputStream("{\"a\":1}".getBytes(StandardCharsets.UTF_8)) {
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      }
+    ).stream().close();
+    MatcherAssert.assertThat(
+      "Source is closed with the stream",
+      closed.get(),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void readsFileInParallel() throws IOException {
+    final Path file = Files.createTempFile("parallel", ".jsonl");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, JsonLinesTest.LINES, StandardCharsets.UTF_8);
+    try (Stream<Jocument> records = new JsonLines(file).parallel()) {
+      MatcherAssert.assertThat(
+        "Records are read in parallel",
+        records.mapToInt(record -> record.leafAsInt("age")).sum(),
+        Matchers.equalTo(600)
+      );
+    }
+  }
+}
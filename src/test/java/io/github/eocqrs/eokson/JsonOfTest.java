@@ -26,17 +26,25 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Test case for {@link JsonOf}.
@@ -167,4 +175,74 @@ final class JsonOfTest {
       new IsEqual<>(text.getBytes())
     );
   }
+
+  @Test
+  void readsStreamManyTimes() {
+    final String text = "{\"sea\":\"Aegean\"}";
+    final Json json = new JsonOf(new ByteArrayInputStream(text.getBytes()));
+    new ByteArray(json).value();
+    MatcherAssert.assertThat(
+      "Stream JSON can be read again",
+      new ByteArray(json).value(),
+      new IsEqual<>(text.getBytes())
+    );
+  }
+
+  @Test
+  void readsBytesFromManyThreads() throws Exception {
+    final String text = "{\"nereids\":[\"Thetis\",\"Galatea\",\"Doris\"]}";
+    MatcherAssert.assertThat(
+      "Every thread reads whole JSON",
+      JsonOfTest.readConcurrently(new JsonOf(text)),
+      Matchers.everyItem(Matchers.equalTo(text))
+    );
+  }
+
+  @Test
+  void readsStreamFromManyThreads() throws Exception {
+    final String text = "{\"sea\":\"Aegean\",\"depth\":3543}";
+    MatcherAssert.assertThat(
+      "Every thread reads whole recorded JSON",
+      JsonOfTest.readConcurrently(
+        new JsonOf(new ByteArrayInputStream(text.getBytes()))
+      ),
+      Matchers.everyItem(Matchers.equalTo(text))
+    );
+  }
+
+  private static List<String> readConcurrently(final Json json)
+    throws Exception {
+    final int threads = 8;
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+    final CountDownLatch start = new CountDownLatch(1);
+    try {
+      final List<Future<String>> reads = new ArrayList<>(threads);
+      for (int idx = 0; idx < threads * 4; ++idx) {
+        reads.add(
+          pool.submit(
+            () -> {
+              start.await();
+              try (InputStream stream = json.bytes()) {
+                final StringBuilder text = new StringBuilder();
+                int next = stream.read();
+                while (next >= 0) {
+                  text.append((char) next);
+                  next = stream.read();
+                }
+                return text.toString();
+              }
+            }
+          )
+        );
+      }
+      start.countDown();
+      final List<String> texts = new ArrayList<>(reads.size());
+      for (final Future<String> read : reads) {
+        texts.add(read.get());
+      }
+      return texts;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
 }
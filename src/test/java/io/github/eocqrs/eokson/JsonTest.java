@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.OptionalLong;
+
+/**
+ * Test case for {@link Json}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class JsonTest {
+
+  private static final String TEXT = "{\"sea\":\"Aegean\"}";
+
+  @Test
+  void hasNoKnownLengthByDefault() {
+    MatcherAssert.assertThat(
+      "Length is not known",
+      JsonTest.json().knownLength(),
+      Matchers.equalTo(OptionalLong.empty())
+    );
+  }
+
+  @Test
+  void givesReadOnlyBufferByDefault() {
+    MatcherAssert.assertThat(
+      "Buffer is read-only and has all bytes",
+      JsonTest.json().asByteBuffer().isReadOnly()
+        && JsonTest.json().asByteBuffer().remaining() == 16,
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void writesToStreamByDefault() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonTest.json().writeTo(out);
+    MatcherAssert.assertThat(
+      "Bytes are written into the stream",
+      out.toString(),
+      Matchers.equalTo(JsonTest.TEXT)
+    );
+  }
+
+  @Test
+  void writesToChannelByDefault() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MatcherAssert.assertThat(
+      "Count of written bytes is given",
+      JsonTest.json().writeTo(Channels.newChannel(out)),
+      Matchers.equalTo((long) JsonTest.TEXT.length())
+    );
+  }
+
+  private static Json json() {
+    return () -> new ByteArrayInputStream(JsonTest.TEXT.getBytes());
+  }
+}
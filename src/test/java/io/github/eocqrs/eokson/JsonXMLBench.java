@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for XML of a big JSON array.
+ * <p>
+ * Compares peak heap of {@link JsonXML#asString()}, which keeps the whole
+ * XML in memory, with {@link JsonXML#writeElementsTo(OutputStream, Pointer, String)},
+ * which streams it element by element. The JSON is read from a file, which
+ * is mapped out of heap, so the input does not count. The peak of heap
+ * pools, which survive young collections, above the heap used before the
+ * invocation, is reported as the {@code peakMb} secondary result:
+ * short-lived garbage in eden is not counted, big buffers and strings are.
+ * Run it with {@code org.openjdk.jmh.Main JsonXMLBench} on the test
+ * classpath.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@SuppressWarnings("JTCOP.RuleAllTestsHaveProductionClass")
+public class JsonXMLBench {
+
+  private static final Pointer ITEMS = new Pointer("/items");
+
+  @Param({"16777216", "67108864"})
+  private int size;
+
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    final StringBuilder json = new StringBuilder("{\"items\":[");
+    int idx = 0;
+    while (json.length() < this.size) {
+      if (idx > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":").append(idx)
+        .append(",\"name\":\"item\",\"tags\":[\"a\",\"b\"]}");
+      ++idx;
+    }
+    this.file = Files.createTempFile("eokson", ".json");
+    Files.write(
+      this.file,
+      json.append("]}").toString().getBytes(StandardCharsets.UTF_8)
+    );
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(this.file);
+  }
+
+  @Benchmark
+  public int asString(final Heap heap) throws Exception {
+    final int length =
+      new JsonXML(new JsonOf(this.file), "root").asString().length();
+    heap.measure();
+    return length;
+  }
+
+  @Benchmark
+  public void chunked(final Heap heap) throws Exception {
+    new JsonXML(new JsonOf(this.file), "root")
+      .writeElementsTo(
+        OutputStream.nullOutputStream(), JsonXMLBench.ITEMS, "items"
+      );
+    heap.measure();
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Heap {
+
+    public long peakMb;
+
+    private long baseline;
+
+    @Setup(Level.Invocation)
+    public void reset() {
+      System.gc();
+      long used = 0L;
+      for (final MemoryPoolMXBean pool
+        : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (pool.getType() == MemoryType.HEAP) {
+          pool.resetPeakUsage();
+        }
+        if (JsonXMLBench.Heap.kept(pool)) {
+          used += pool.getUsage().getUsed();
+        }
+      }
+      this.baseline = used;
+    }
+
+    static boolean kept(final MemoryPoolMXBean pool) {
+      return pool.getType() == MemoryType.HEAP
+        && !pool.getName().contains("Eden");
+    }
+
+    void measure() {
+      long peak = 0L;
+      for (final MemoryPoolMXBean pool
+        : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (JsonXMLBench.Heap.kept(pool)) {
+          peak += pool.getPeakUsage().getUsed();
+        }
+      }
+      this.peakMb = Math.max(this.peakMb, (peak - this.baseline) >> 20);
+    }
+  }
+}
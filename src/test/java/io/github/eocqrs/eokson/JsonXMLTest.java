@@ -22,11 +22,18 @@
 
 package io.github.eocqrs.eokson;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.cactoos.io.ResourceOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 /**
  * Test case for {@link JsonXML}.
  *
@@ -51,4 +58,105 @@ final class JsonXMLTest {
       )
     );
   }
+
+  @Test
+  void writesSameXmlAsTree() throws Exception {
+    final XmlMapper xml = new XmlMapper();
+    xml.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
+    for (final String resource
+      : List.of("simple.json", "deep.json", "deep-noarray.json", "amazon.json")) {
+      final byte[] bytes = new ResourceOf(resource).stream().readAllBytes();
+      MatcherAssert.assertThat(
+        String.format("XML of %s is the same as written from tree", resource),
+        new JsonXML(new JsonOf(bytes), "root").asString(),
+        new IsEqual<>(
+          xml.writer()
+            .withRootName("root")
+            .writeValueAsString(new ObjectMapper().readTree(bytes))
+        )
+      );
+    }
+  }
+
+  @Test
+  void writesSameXmlForValues() throws Exception {
+    final String json =
+      "{\"n\":[1,2.5,-3],\"e\":[],\"o\":{},\"x\":null,\"a\":[[1],[2,{\"b\":true}]]}";
+    final XmlMapper xml = new XmlMapper();
+    xml.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
+    MatcherAssert.assertThat(
+      "XML of numbers, nulls and nested arrays is the same",
+      new JsonXML(new JsonOf(json), "values").asString(),
+      new IsEqual<>(
+        xml.writer()
+          .withRootName("values")
+          .writeValueAsString(new ObjectMapper().readTree(json))
+      )
+    );
+  }
+
+  @Test
+  void writesXmlIntoStream() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JsonXML(new JsonOf("{\"sea\":\"Aegean\"}"), "ocean").writeTo(out);
+    MatcherAssert.assertThat(
+      "XML is written into the stream",
+      out.toString(StandardCharsets.UTF_8),
+      new IsEqual<>(
+        "<?xml version='1.0' encoding='UTF-8'?><ocean><sea>Aegean</sea></ocean>"
+      )
+    );
+  }
+
+  @Test
+  void writesElementsOfArrayAtPath() throws Exception {
+    final String json =
+      "{\"skip\":[0],\"items\":[{\"id\":1},{\"id\":2,\"tags\":[\"a\",\"b\"]},null]}";
+    final XmlMapper xml = new XmlMapper();
+    xml.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JsonXML(new JsonOf(json), "batch")
+      .writeElementsTo(out, new Pointer("/items"), "items");
+    MatcherAssert.assertThat(
+      "Elements are written as the tree of the array is",
+      out.toString(StandardCharsets.UTF_8),
+      new IsEqual<>(
+        xml.writer()
+          .withRootName("batch")
+          .writeValueAsString(
+            new ObjectMapper().createObjectNode().set(
+              "items",
+              new ObjectMapper().readTree(json).get("items")
+            )
+          )
+      )
+    );
+  }
+
+  @Test
+  void writesElementsOfRootArray() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JsonXML(new JsonOf("[{\"a\":1},{\"a\":2}]"), "list")
+      .writeElementsTo(out, "item");
+    MatcherAssert.assertThat(
+      "Each element is an XML element under the root",
+      out.toString(StandardCharsets.UTF_8),
+      new IsEqual<>(
+        "<?xml version='1.0' encoding='UTF-8'?>"
+          + "<list><item><a>1</a></item><item><a>2</a></item></list>"
+      )
+    );
+  }
+
+  @Test
+  void writesEmptyRootWithoutArray() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JsonXML(new JsonOf("{\"a\":1}"), "list")
+      .writeElementsTo(out, new Pointer("/b"), "item");
+    MatcherAssert.assertThat(
+      "Empty root is written",
+      out.toString(StandardCharsets.UTF_8),
+      new IsEqual<>("<?xml version='1.0' encoding='UTF-8'?><list/>")
+    );
+  }
 }
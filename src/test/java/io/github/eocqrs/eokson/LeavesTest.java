@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Leaves}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class LeavesTest {
+
+  @Test
+  void readsLeavesOfAllTypes() {
+    final Leaves leaves = new Jocument(
+      new JsonOf("{\"s\":\"text\",\"i\":7,\"d\":7.5,\"b\":true}")
+    ).leaves("s", "/i", "/d", "b");
+    MatcherAssert.assertThat(
+      "Leaves in right format",
+      leaves.leaf("s") + leaves.leafAsInt("/i")
+        + leaves.leafAsDouble("/d") + leaves.leafAsBool("b"),
+      new IsEqual<>("text77.5true")
+    );
+  }
+
+  @Test
+  void returnsEmptyOnMissingLeaf() {
+    MatcherAssert.assertThat(
+      "Empty on missing leaf",
+      new Jocument(new JsonOf("{}")).leaves("/a/b").optLeafAsInt("/a/b")
+        .isPresent(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void throwsOnNotRequestedPath() {
+    Assertions.assertTrue(
+      Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new Jocument(new JsonOf("{\"a\":1}")).leaves("/a").has("/b")
+      ).getMessage().contains("not requested")
+    );
+  }
+
+  @Test
+  void throwsOnNonexistentLeaf() {
+    Assertions.assertTrue(
+      Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new Jocument(new JsonOf("{\"a\":1}")).leaves("/a").leaf("/a")
+      ).getMessage().contains("No such field")
+    );
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test case for {@link MappedJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class MappedJsonTest {
+
+  @Test
+  void readsMappedFile() throws IOException {
+    final Path file = Files.createTempFile("mapped", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "{\"sea\":\"Aegean\"}");
+    MatcherAssert.assertThat(
+      "Leaf is read from mapped file",
+      new Jocument(new MappedJson(file)).leaf("sea"),
+      Matchers.equalTo("Aegean")
+    );
+  }
+
+  @Test
+  void readsAcrossSegments() throws IOException {
+    final Path file = Files.createTempFile("segments", ".json");
+    file.toFile().deleteOnExit();
+    final String text = "{\"nereids\":[\"Thetis\",\"Galatea\",\"Amphitrite\"]}";
+    Files.writeString(file, text);
+    MatcherAssert.assertThat(
+      "Segments are read in order",
+      new String(
+        new ByteArray(new MappedJson(file, 5L)).value(),
+        StandardCharsets.UTF_8
+      ),
+      Matchers.equalTo(text)
+    );
+  }
+
+  @Test
+  void readsManyTimes() throws IOException {
+    final Path file = Files.createTempFile("again", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "{\"a\":1}");
+    final Json json = new MappedJson(file, 3L);
+    new ByteArray(json).value();
+    MatcherAssert.assertThat(
+      "Second read starts from the beginning",
+      new String(new ByteArray(json).value(), StandardCharsets.UTF_8),
+      Matchers.equalTo("{\"a\":1}")
+    );
+  }
+
+  @Test
+  void readsEmptyFile() throws IOException {
+    final Path file = Files.createTempFile("empty", ".json");
+    file.toFile().deleteOnExit();
+    MatcherAssert.assertThat(
+      "Empty file has no bytes",
+      new ByteArray(new MappedJson(file)).value().length,
+      Matchers.equalTo(0)
+    );
+  }
+
+  @Test
+  void transfersFileIntoChannel() throws IOException {
+    final Path file = Files.createTempFile("transfer", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "{\"depth\":3543}");
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JsonOf(file).writeTo(Channels.newChannel(out));
+    MatcherAssert.assertThat(
+      "File is transferred into channel",
+      out.toString(StandardCharsets.UTF_8),
+      Matchers.equalTo("{\"depth\":3543}")
+    );
+  }
+
+  @Test
+  void writesSegmentsIntoStream() throws IOException {
+    final Path file = Files.createTempFile("write", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "{\"sea\":\"Ionian\"}");
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new MappedJson(file, 4L).writeTo(out);
+    MatcherAssert.assertThat(
+      "Segments are written in order",
+      out.toString(StandardCharsets.UTF_8),
+      Matchers.equalTo("{\"sea\":\"Ionian\"}")
+    );
+  }
+
+  @Test
+  void knowsLength() throws IOException {
+    final Path file = Files.createTempFile("length", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "{\"a\":1}");
+    MatcherAssert.assertThat(
+      "Length comes from mapping",
+      new MappedJson(file).knownLength().getAsLong(),
+      Matchers.equalTo(7L)
+    );
+  }
+
+  @Test
+  void givesMapping() throws IOException {
+    final Path file = Files.createTempFile("mapping", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "{\"a\":1}");
+    MatcherAssert.assertThat(
+      "Buffer comes from mapping",
+      new MappedJson(file).asByteBuffer().remaining(),
+      Matchers.equalTo(7)
+    );
+  }
+}
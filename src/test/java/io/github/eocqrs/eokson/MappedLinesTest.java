@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Test case for {@link MappedLines}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class MappedLinesTest {
+
+  @Test
+  void splitsAtNewlines() throws IOException {
+    final Spliterator<Jocument> lines =
+      new MappedJson(MappedLinesTest.file(50), 64L)
+        .lines(16L, JsonEngine.shared());
+    final List<Spliterator<Jocument>> chunks = new ArrayList<>(2);
+    chunks.add(lines.trySplit());
+    chunks.add(lines);
+    final List<Integer> ids = new ArrayList<>(50);
+    for (final Spliterator<Jocument> chunk : chunks) {
+      chunk.forEachRemaining(record -> ids.add(record.leafAsInt("id")));
+    }
+    MatcherAssert.assertThat(
+      "Chunks have whole records in order",
+      ids,
+      Matchers.equalTo(
+        IntStream.range(0, 50).boxed().collect(Collectors.toList())
+      )
+    );
+  }
+
+  @Test
+  void readsAllRecordsInParallel() throws IOException {
+    MatcherAssert.assertThat(
+      "All records are read by many threads",
+      StreamSupport.stream(
+        new MappedJson(MappedLinesTest.file(1000), 1000L)
+          .lines(64L, JsonEngine.shared()),
+        true
+      ).mapToInt(record -> record.leafAsInt("id")).sum(),
+      Matchers.equalTo(499_500)
+    );
+  }
+
+  @Test
+  void doesNotSplitSmallChunk() throws IOException {
+    MatcherAssert.assertThat(
+      "Small chunk is not split",
+      new MappedJson(MappedLinesTest.file(2))
+        .lines(1024L, JsonEngine.shared())
+        .trySplit(),
+      Matchers.nullValue()
+    );
+  }
+
+  private static Path file(final int records) throws IOException {
+    final Path file = Files.createTempFile("records", ".jsonl");
+    file.toFile().deleteOnExit();
+    Files.writeString(
+      file,
+      IntStream.range(0, records)
+        .mapToObj(idx -> String.format("{\"id\":%d,\"type\":\"event\"}", idx))
+        .collect(Collectors.joining("\n"))
+    );
+    return file;
+  }
+}
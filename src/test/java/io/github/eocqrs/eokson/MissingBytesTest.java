@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MissingBytes}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class MissingBytesTest {
+
+  @Test
+  void findsEmptyBytesMissing() {
+    MatcherAssert.assertThat(
+      "Empty bytes are missing",
+      new MissingBytes(new Missing()).value(),
+      new IsEqual<>(true)
+    );
+  }
+
+  @Test
+  void findsNullMissing() {
+    MatcherAssert.assertThat(
+      "Null surrounded by whitespace is missing",
+      new MissingBytes(new JsonOf(" null\n")).value(),
+      new IsEqual<>(true)
+    );
+  }
+
+  @Test
+  void findsObjectPresent() {
+    MatcherAssert.assertThat(
+      "Object is not missing",
+      new MissingBytes(new JsonOf("  {\"a\":null}")).value(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void findsNullPrefixPresent() {
+    MatcherAssert.assertThat(
+      "Malformed null is not missing",
+      new MissingBytes(new JsonOf("nullable")).value(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void readsBytesAgain() {
+    final Json json = new JsonOf("{}");
+    new MissingBytes(json).value();
+    MatcherAssert.assertThat(
+      "Bytes are read again",
+      new Jocument(json).textual(),
+      new IsEqual<>("{}")
+    );
+  }
+}
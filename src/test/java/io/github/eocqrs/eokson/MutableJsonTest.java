@@ -23,14 +23,17 @@
 package io.github.eocqrs.eokson;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Test case for {@link MutableJson}.
@@ -195,4 +198,76 @@ final class MutableJsonTest {
       )
     );
   }
+
+  @Test
+  void embedsNodeBackedJsonWithoutWritingIt() {
+    final ObjectNode node = MAPPER.createObjectNode();
+    node.putPOJO("opaque", new Object());
+    MatcherAssert.assertThat(
+      "Node is embedded without writing it to bytes",
+      new TreeOf(new MutableJson().with("inner", new JsonOf(node)))
+        .value()
+        .map(tree -> tree.at("/inner/opaque").isPojo()),
+      Matchers.equalTo(Optional.of(true))
+    );
+  }
+
+  @Test
+  void copiesTreeOfBaseJson() {
+    final MutableJson origin = new MutableJson().with("a", 1);
+    new MutableJson(origin).with("b", 2);
+    MatcherAssert.assertThat(
+      "Base JSON is not changed",
+      origin.toString(),
+      Matchers.equalTo("{\"a\":1}")
+    );
+  }
+
+  @Test
+  void keepsSnapshotOfEmbeddedMutableJson() {
+    final MutableJson inner = new MutableJson().with("x", 1);
+    final MutableJson outer = new MutableJson().with("inner", inner);
+    inner.with("y", 2);
+    MatcherAssert.assertThat(
+      "Embedded JSON is copied",
+      outer.toString(),
+      Matchers.equalTo("{\"inner\":{\"x\":1}}")
+    );
+  }
+
+  @Test
+  void embedsRawJsonVerbatim() {
+    MatcherAssert.assertThat(
+      "Raw JSON is spliced as it is",
+      new MutableJson()
+        .with("type", "created")
+        .withRaw("payload", new JsonOf("{\"b\": [1, 2],  \"a\": \"x\"}"))
+        .toString(),
+      Matchers.equalTo(
+        "{\"type\":\"created\",\"payload\":{\"b\": [1, 2],  \"a\": \"x\"}}"
+      )
+    );
+  }
+
+  @Test
+  void readsLeavesOfRawJson() {
+    MatcherAssert.assertThat(
+      "Raw JSON can be read by Jocument",
+      new Jocument(
+        new MutableJson().withRaw("payload", new JsonOf("{\"depth\":3543}"))
+      ).leafAsInt("/payload/depth"),
+      Matchers.equalTo(3543)
+    );
+  }
+
+  @Test
+  void rejectsMalformedRawJson() {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new MutableJson().withRaw(
+        "payload",
+        new WellFormedJson(new JsonOf("{\"broken\":"))
+      )
+    );
+  }
 }
@@ -23,6 +23,7 @@
 package io.github.eocqrs.eokson;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -83,4 +84,19 @@ final class NodeAtTest {
       Matchers.equalTo(false)
     );
   }
+
+  @Test
+  void readsNodeByCompiledPath() {
+    MatcherAssert.assertThat(
+      "Node in right format",
+      new NodeAt(
+        new Pointer("/nested/name"),
+        new Unchecked<>(
+          () -> (ObjectNode) new ObjectMapper()
+            .readTree("{\"nested\":{\"name\":\"Thetis\"}}")
+        )
+      ).value().get().textValue(),
+      Matchers.equalTo("Thetis")
+    );
+  }
 }
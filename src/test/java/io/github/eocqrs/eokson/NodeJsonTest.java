@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test case for {@link NodeJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class NodeJsonTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  void writesBytesOfNode() {
+    MatcherAssert.assertThat(
+      "Bytes are written from the node",
+      new String(
+        new ByteArray(
+          new NodeJson(
+            () -> NodeJsonTest.MAPPER.createObjectNode().put("a", "b")
+          )
+        ).value()
+      ),
+      Matchers.equalTo("{\"a\":\"b\"}")
+    );
+  }
+
+  @Test
+  void readsNodeOnce() {
+    final AtomicInteger reads = new AtomicInteger();
+    final NodeJson json = new NodeJson(
+      () -> {
+        reads.incrementAndGet();
+        return NodeJsonTest.MAPPER.createObjectNode();
+      }
+    );
+    json.tree();
+    new ByteArray(json).value();
+    new ByteArray(json).value();
+    MatcherAssert.assertThat(
+      "Node is supplied once",
+      reads.get(),
+      Matchers.equalTo(1)
+    );
+  }
+
+  @Test
+  void doesNotReadNodeUntilAsked() {
+    final AtomicInteger reads = new AtomicInteger();
+    new NodeJson(
+      () -> {
+        reads.incrementAndGet();
+        return NodeJsonTest.MAPPER.createObjectNode();
+      }
+    );
+    MatcherAssert.assertThat(
+      "Node is not supplied on construction",
+      reads.get(),
+      Matchers.equalTo(0)
+    );
+  }
+
+  @Test
+  void givesIndependentStreams() throws Exception {
+    final ObjectNode node = NodeJsonTest.MAPPER.createObjectNode().put("x", 1);
+    final NodeJson json = new NodeJson(() -> node);
+    json.bytes().readAllBytes();
+    MatcherAssert.assertThat(
+      "Second stream starts from the beginning",
+      new String(json.bytes().readAllBytes()),
+      Matchers.equalTo("{\"x\":1}")
+    );
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Pointer}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class PointerTest {
+
+  @Test
+  void compilesPath() {
+    MatcherAssert.assertThat(
+      "Pointer in right format",
+      new Pointer("/ocean/rock1").value().tail().getMatchingProperty(),
+      new IsEqual<>("rock1")
+    );
+  }
+
+  @Test
+  void sharesCompiledPath() {
+    MatcherAssert.assertThat(
+      "Compiled path is interned",
+      new Pointer("/ocean/rock2/nereid3").value(),
+      new IsSame<>(new Pointer("/ocean/rock2/nereid3").value())
+    );
+  }
+
+  @Test
+  void printsPath() {
+    MatcherAssert.assertThat(
+      "Path in right format",
+      new Pointer("name").toString(),
+      new IsEqual<>("name")
+    );
+  }
+}
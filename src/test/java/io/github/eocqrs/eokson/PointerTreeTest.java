@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test case for {@link PointerTree}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class PointerTreeTest {
+
+  @Test
+  void countsPaths() {
+    MatcherAssert.assertThat(
+      "Paths are counted",
+      new PathSet("/a/b", "/a/c", "/a", "d").tree().size(),
+      new IsEqual<>(4)
+    );
+  }
+
+  @Test
+  void resolvesAgainstNode() throws Exception {
+    final Map<String, JsonNode> found = new HashMap<>(2);
+    new PathSet("/a/1/b", "/a/0").tree().resolve(
+      new ObjectMapper().readTree("{\"a\":[5,{\"b\":\"c\"}]}"),
+      found
+    );
+    MatcherAssert.assertThat(
+      "Paths are resolved",
+      found.get("/a/1/b").textValue() + found.get("/a/0").intValue(),
+      new IsEqual<>("c5")
+    );
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test case for {@link RecordedJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class RecordedJsonTest {
+
+  private static final String TEXT =
+    "{\"nereids\":[\"Thetis\",\"Galatea\",\"Amphitrite\",\"Doris\"]}";
+
+  @Test
+  void replaysStream() throws Exception {
+    final Json json = new RecordedJson(
+      new ByteArrayInputStream(RecordedJsonTest.TEXT.getBytes())
+    );
+    json.bytes().readAllBytes();
+    MatcherAssert.assertThat(
+      "Stream is replayed from the start",
+      new String(json.bytes().readAllBytes(), StandardCharsets.UTF_8),
+      Matchers.equalTo(RecordedJsonTest.TEXT)
+    );
+  }
+
+  @Test
+  void spillsIntoFile() throws Exception {
+    final Json json = new RecordedJson(
+      new ByteArrayInputStream(RecordedJsonTest.TEXT.getBytes()),
+      8
+    );
+    json.bytes().readAllBytes();
+    MatcherAssert.assertThat(
+      "Spilled bytes are replayed",
+      new String(json.bytes().readAllBytes(), StandardCharsets.UTF_8),
+      Matchers.equalTo(RecordedJsonTest.TEXT)
+    );
+  }
+
+  @Test
+  void readsLeafOfSpilledJson() {
+    MatcherAssert.assertThat(
+      "Leaf is read from spilled JSON",
+      new Jocument(
+        new RecordedJson(
+          new ByteArrayInputStream(RecordedJsonTest.TEXT.getBytes()),
+          4
+        )
+      ).leaf("/nereids/3"),
+      Matchers.equalTo("Doris")
+    );
+  }
+
+  @Test
+  void readsOriginAsFarAsAsked() throws Exception {
+    final AtomicInteger pulled = new AtomicInteger();
+    final Json json = new RecordedJson(
+      new CountingStream(
+        new ByteArrayInputStream(new byte[1 << 20]),
+        pulled,
+        new AtomicBoolean()
+      )
+    );
+    json.bytes().read(new byte[4]);
+    MatcherAssert.assertThat(
+      "Only a chunk is pulled from the origin",
+      pulled.get(),
+      Matchers.lessThan(1 << 20)
+    );
+  }
+
+  @Test
+  void closesOriginAtEnd() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean();
+    new RecordedJson(
+      new CountingStream(
+        new ByteArrayInputStream(RecordedJsonTest.TEXT.getBytes()),
+        new AtomicInteger(),
+        closed
+      )
+    ).bytes().readAllBytes();
+    MatcherAssert.assertThat(
+      "Origin is closed",
+      closed.get(),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void closesOriginAfterLeafIsRead() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    new Jocument(
+      new JsonOf(
+        new CountingStream(
+          new ByteArrayInputStream(
+            "{\"a\":\"b\"}\n\n".getBytes(StandardCharsets.UTF_8)
+          ),
+          new AtomicInteger(),
+          closed
+        )
+      )
+    ).leaf("a");
+    MatcherAssert.assertThat(
+      "Origin is closed, once a leaf is read",
+      closed.get(),
+      Matchers.is(true)
+    );
+  }
+
+  @Test
+  void skipsRecordedBytes() throws Exception {
+    final InputStream stream = new RecordedJson(
+      new ByteArrayInputStream(RecordedJsonTest.TEXT.getBytes()),
+      8
+    ).bytes();
+    stream.skip(13L);
+    MatcherAssert.assertThat(
+      "Byte after skipped ones is read",
+      (char) stream.read(),
+      Matchers.equalTo('T')
+    );
+  }
+
+  /**
+   * Stream, which counts pulled bytes and tells if it is closed.
+   *
+   * @since 0.4.0
+   */
+  private static final class CountingStream extends InputStream {
+
+    private final InputStream origin;
+
+    private final AtomicInteger pulled;
+
+    private final AtomicBoolean closed;
+
+    CountingStream(
+      final InputStream origin,
+      final AtomicInteger pulled,
+      final AtomicBoolean closed
+    ) {
+      this.origin = origin;
+      this.pulled = pulled;
+      this.closed = closed;
+    }
+
+    @Override
+    public int read() throws IOException {
+      this.pulled.incrementAndGet();
+      return this.origin.read();
+    }
+
+    @Override
+    public int read(
+      final byte[] bytes,
+      final int off,
+      final int len
+    ) throws IOException {
+      final int read = this.origin.read(bytes, off, len);
+      this.pulled.addAndGet(Math.max(read, 0));
+      return read;
+    }
+
+    @Override
+    public void close() {
+      this.closed.set(true);
+    }
+  }
+
+  @Test
+  void transfersRestOfRecording() throws Exception {
+    for (final int limit : new int[] {1 << 20, 8}) {
+      final InputStream replay = new RecordedJson(
+        new ByteArrayInputStream(RecordedJsonTest.TEXT.getBytes()),
+        limit
+      ).bytes();
+      replay.readNBytes(2);
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      replay.transferTo(out);
+      MatcherAssert.assertThat(
+        String.format("Rest of recording is transferred, limit %d", limit),
+        out.toString(StandardCharsets.UTF_8),
+        Matchers.equalTo(RecordedJsonTest.TEXT.substring(2))
+      );
+    }
+  }
+}
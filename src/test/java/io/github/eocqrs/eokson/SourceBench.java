@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for replayable byte sources.
+ * <p>
+ * Compares reading JSON bytes through a stream, which only overrides
+ * single-byte {@code read()}, with bulk reads of in-memory {@link JsonOf}
+ * and {@link RecordedJson}.
+ * Run it with {@code org.openjdk.jmh.Main SourceBench} on the test
+ * classpath.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("JTCOP.RuleAllTestsHaveProductionClass")
+public class SourceBench {
+
+  @Param({"65536", "4194304"})
+  private int size;
+
+  private byte[] bytes;
+
+  @Setup
+  public void setUp() {
+    final StringBuilder json = new StringBuilder("{\"items\":[");
+    int idx = 0;
+    while (json.length() < this.size) {
+      if (idx > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":").append(idx).append(",\"name\":\"item\"}");
+      ++idx;
+    }
+    this.bytes = json.append("]}").toString().getBytes();
+  }
+
+  @Benchmark
+  public byte[] singleByte() {
+    final ByteArrayInputStream origin = new ByteArrayInputStream(this.bytes);
+    return new ByteArray(
+      () -> new InputStream() {
+        @Override
+        public int read() {
+          return origin.read();
+        }
+      }
+    ).value();
+  }
+
+  @Benchmark
+  public byte[] bulk() {
+    return new ByteArray(
+      new JsonOf(this.bytes)
+    ).value();
+  }
+
+  @Benchmark
+  public byte[] recorded() {
+    return new ByteArray(
+      new RecordedJson(new ByteArrayInputStream(this.bytes))
+    ).value();
+  }
+
+  @Benchmark
+  public Object parsedSingleByte() {
+    final ByteArrayInputStream origin = new ByteArrayInputStream(this.bytes);
+    return new Jocument(
+      () -> new InputStream() {
+        @Override
+        public int read() {
+          return origin.read();
+        }
+      }
+    ).objectNode();
+  }
+
+  @Benchmark
+  public Object parsedBulk() {
+    return new Jocument(new JsonOf(this.bytes)).objectNode();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+/**
+ * Test case for {@link StreamedLeaves}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class StreamedLeavesTest {
+
+  private static final String JSON =
+    "{\"skip\":{\"deep\":[1,{\"name\":\"x\"}]},"
+      + "\"ocean\":{\"nereids\":[{\"name\":\"Thetis\"},{\"name\":\"Galatea\"}],"
+      + "\"depth\":11034}}";
+
+  @Test
+  void resolvesManyPaths() {
+    final Map<String, JsonNode> found = new StreamedLeaves(
+      new PathSet("/ocean/depth", "/ocean/nereids/1/name", "skip").tree(),
+      new JsonOf(StreamedLeavesTest.JSON)
+    ).value();
+    MatcherAssert.assertThat(
+      "Leaves in right format",
+      found.get("/ocean/nereids/1/name").textValue()
+        + found.get("/ocean/depth").intValue()
+        + found.get("skip"),
+      new IsEqual<>("Galatea11034{\"deep\":[1,{\"name\":\"x\"}]}")
+    );
+  }
+
+  @Test
+  void resolvesPathsInsideResolvedPath() {
+    MatcherAssert.assertThat(
+      "Nested path in right format",
+      new StreamedLeaves(
+        new PathSet("/ocean/nereids", "/ocean/nereids/0/name").tree(),
+        new JsonOf(StreamedLeavesTest.JSON)
+      ).value().get("/ocean/nereids/0/name").textValue(),
+      new IsEqual<>("Thetis")
+    );
+  }
+
+  @Test
+  void skipsMissingPaths() {
+    MatcherAssert.assertThat(
+      "Missing paths are not found",
+      new StreamedLeaves(
+        new PathSet("/ocean/name", "/ocean/depth/m", "/ocean/nereids/7").tree(),
+        new JsonOf(StreamedLeavesTest.JSON)
+      ).value().isEmpty(),
+      new IsEqual<>(true)
+    );
+  }
+
+  @Test
+  void stopsWhenAllPathsAreResolved() {
+    MatcherAssert.assertThat(
+      "Does not read malformed tail",
+      new StreamedLeaves(
+        new PathSet("/a", "/b/c").tree(),
+        new JsonOf("{\"a\":1,\"b\":{\"c\":2},\"d\":")
+      ).value().size(),
+      new IsEqual<>(2)
+    );
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * Test case for {@link StreamedNodeAt}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class StreamedNodeAtTest {
+
+  private static final String JSON =
+    "{\"skip\":{\"deep\":[1,{\"name\":\"x\"}]},"
+      + "\"ocean\":{\"nereids\":[{\"name\":\"Thetis\"},{\"name\":\"Galatea\"}],"
+      + "\"depth\":11034}}";
+
+  @Test
+  void readsNodeInPath() {
+    MatcherAssert.assertThat(
+      "Node in right format",
+      new StreamedNodeAt(
+        "/ocean/nereids/1/name",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).value().get().textValue(),
+      new IsEqual<>("Galatea")
+    );
+  }
+
+  @Test
+  void readsRootField() {
+    MatcherAssert.assertThat(
+      "Root field in right format",
+      new StreamedNodeAt(
+        "skip",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).value().get().toString(),
+      new IsEqual<>("{\"deep\":[1,{\"name\":\"x\"}]}")
+    );
+  }
+
+  @Test
+  void readsNumber() {
+    MatcherAssert.assertThat(
+      "Number in right format",
+      new StreamedNodeAt(
+        "/ocean/depth",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).value().get().intValue(),
+      new IsEqual<>(11_034)
+    );
+  }
+
+  @Test
+  void returnsEmptyOnMissingField() {
+    MatcherAssert.assertThat(
+      "Empty on missing field",
+      new StreamedNodeAt(
+        "/ocean/name",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).value().isPresent(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void returnsEmptyOnMissingElement() {
+    MatcherAssert.assertThat(
+      "Empty on element out of array",
+      new StreamedNodeAt(
+        "/ocean/nereids/2",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).value().isPresent(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void returnsEmptyOnPathThroughLeaf() {
+    MatcherAssert.assertThat(
+      "Empty on path through leaf",
+      new StreamedNodeAt(
+        "/ocean/depth/meters",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).value().isPresent(),
+      new IsEqual<>(false)
+    );
+  }
+
+  @Test
+  void checksNodeIsPresent() {
+    MatcherAssert.assertThat(
+      "Node is present",
+      new StreamedNodeAt(
+        "/ocean/nereids/0",
+        new JsonOf(StreamedNodeAtTest.JSON)
+      ).present(),
+      new IsEqual<>(true)
+    );
+  }
+
+  @Test
+  void stopsOnResolvedPath() {
+    MatcherAssert.assertThat(
+      "Does not read malformed tail",
+      new StreamedNodeAt(
+        "/first",
+        new JsonOf("{\"first\":1,\"second\":")
+      ).present(),
+      new IsEqual<>(true)
+    );
+  }
+
+  @Test
+  void throwsOnMissingJson() {
+    Assertions.assertThrows(
+      UncheckedIOException.class,
+      () -> new StreamedNodeAt("/any", new Missing()).value(),
+      "Throws on missing JSON"
+    );
+  }
+
+  @Test
+  void readsPrimitives() {
+    final Json json = new JsonOf(
+      "{\"i\":7,\"l\":1700000000123,\"d\":2.5,\"s\":\"text\"}"
+    );
+    MatcherAssert.assertThat(
+      "Primitives in right format",
+      new StreamedNodeAt("i", json).intValue().getAsInt()
+        + " " + new StreamedNodeAt("l", json).longValue().getAsLong()
+        + " " + new StreamedNodeAt("d", json).doubleValue().getAsDouble()
+        + " " + new StreamedNodeAt("d", json).intValue().getAsInt()
+        + " " + new StreamedNodeAt("s", json).longValue().getAsLong(),
+      new IsEqual<>("7 1700000000123 2.5 2 0")
+    );
+  }
+
+  @Test
+  void readsExactDecimal() {
+    MatcherAssert.assertThat(
+      "Decimal is exact",
+      new StreamedNodeAt(
+        "/price",
+        new JsonOf("{\"price\":12345678901234567890.123456789}")
+      ).decimalValue().get(),
+      new IsEqual<>(new BigDecimal("12345678901234567890.123456789"))
+    );
+  }
+
+  @Test
+  void returnsEmptyPrimitiveOnMissingField() {
+    MatcherAssert.assertThat(
+      "Empty on missing field",
+      new StreamedNodeAt("/x", new JsonOf("{}")).intValue().isPresent(),
+      new IsEqual<>(false)
+    );
+  }
+}
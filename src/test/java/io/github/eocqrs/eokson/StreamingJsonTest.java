@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test case for {@link StreamingJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class StreamingJsonTest {
+
+  @Test
+  void writesLikeMutableJson() {
+    final StringWriter writer = new StringWriter();
+    try (StreamingJson json = new StreamingJson(writer)) {
+      json.object("ocean")
+        .object("nereid")
+        .with("hair", "black")
+        .with("age", 100)
+        .with("fair", true)
+        .end()
+        .end();
+    }
+    MatcherAssert.assertThat(
+      "Same JSON as MutableJson builds",
+      writer.toString(),
+      Matchers.equalTo(
+        new MutableJson().with(
+          "ocean",
+          new MutableJson().with(
+            "nereid",
+            new MutableJson()
+              .with("hair", "black")
+              .with("age", 100)
+              .with("fair", true)
+          )
+        ).toString()
+      )
+    );
+  }
+
+  @Test
+  void writesArraysAndClosesOpenScopes() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (StreamingJson json = new StreamingJson(out)) {
+      json.with("count", 3L).array("items").add("a").add(2L).add(true)
+        .object().with("d", 0.5).end()
+        .array().add(1L);
+    }
+    MatcherAssert.assertThat(
+      "Arrays are written and left scopes are closed",
+      out.toString(StandardCharsets.UTF_8),
+      Matchers.equalTo(
+        "{\"count\":3,\"items\":[\"a\",2,true,{\"d\":0.5},[1]]}"
+      )
+    );
+  }
+
+  @Test
+  void copiesNestedJson() {
+    final StringWriter writer = new StringWriter();
+    try (StreamingJson json = new StreamingJson(writer)) {
+      json.with("payload", new JsonOf("{\"a\": [1, {\"b\": null}]}"))
+        .array("more")
+        .add(new JsonOf("[true]"));
+    }
+    MatcherAssert.assertThat(
+      "Nested JSONs are copied by tokens",
+      writer.toString(),
+      Matchers.equalTo("{\"payload\":{\"a\":[1,{\"b\":null}]},\"more\":[[true]]}")
+    );
+  }
+
+  @Test
+  void doesNotCloseTarget() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    new StreamingJson(
+      new ByteArrayOutputStream() {
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      }
+    ).close();
+    MatcherAssert.assertThat(
+      "Target stays open",
+      closed.get(),
+      Matchers.is(false)
+    );
+  }
+
+  @Test
+  void writesIncrementally() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (StreamingJson json = new StreamingJson((OutputStream) out)) {
+      json.array("items");
+      for (long idx = 0; idx < 100_000L; ++idx) {
+        json.add(idx);
+      }
+      MatcherAssert.assertThat(
+        "Bytes reach the target before the end",
+        out.size(),
+        Matchers.greaterThan(0)
+      );
+    }
+  }
+
+  @Test
+  void failsOnFieldInArray() {
+    Assertions.assertThrows(
+      RuntimeException.class,
+      () -> new StreamingJson(new StringWriter()).array("items").with("a", 1)
+    );
+  }
+}
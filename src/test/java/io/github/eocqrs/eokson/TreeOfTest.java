@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test case for {@link TreeOf}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class TreeOfTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  void findsNodeBehindJsonOf() {
+    final ObjectNode node = TreeOfTest.MAPPER.createObjectNode().put("a", 1);
+    MatcherAssert.assertThat(
+      "Node is found as is",
+      new TreeOf(new JsonOf(node)).value().orElseThrow(),
+      Matchers.sameInstance(node)
+    );
+  }
+
+  @Test
+  void findsNodeBehindMutableJson() {
+    MatcherAssert.assertThat(
+      "Node of mutable JSON is found",
+      new TreeOf(new MutableJson().with("b", 2)).value()
+        .map(Object::toString),
+      Matchers.equalTo(Optional.of("{\"b\":2}"))
+    );
+  }
+
+  @Test
+  void findsNodeThroughDocumentAndEnvelope() {
+    final ObjectNode node = TreeOfTest.MAPPER.createObjectNode().put("c", 3);
+    MatcherAssert.assertThat(
+      "Node is found through decorators",
+      new TreeOf(
+        new JsonEnvelope(new Jocument(new JsonOf(node))) {
+        }
+      ).value().orElseThrow(),
+      Matchers.sameInstance(node)
+    );
+  }
+
+  @Test
+  void findsNoNodeBehindText() {
+    MatcherAssert.assertThat(
+      "Text JSON has no node",
+      new TreeOf(new JsonOf("{\"d\":4}")).value(),
+      Matchers.equalTo(Optional.empty())
+    );
+  }
+
+  @Test
+  void findsBuiltTreeOfDocument() {
+    final Jocument document = new Jocument(new JsonOf("{\"e\":5}"));
+    document.objectNode();
+    MatcherAssert.assertThat(
+      "Built tree is found",
+      new TreeOf(document).value().map(Object::toString),
+      Matchers.equalTo(Optional.of("{\"e\":5}"))
+    );
+  }
+
+  @Test
+  void keepsTreesOffPublicApi() {
+    MatcherAssert.assertThat(
+      "Public documents have no public tree()",
+      Stream.of(
+        Jocument.class, JsonOf.class, MutableJson.class, JsonEnvelope.class
+      ).flatMap(type -> Arrays.stream(type.getMethods()))
+        .map(Method::getName)
+        .collect(Collectors.toList()),
+      Matchers.not(Matchers.hasItem("tree"))
+    );
+  }
+
+  @Test
+  void takesTreeOfAnyTreedJson() {
+    final ObjectNode node = TreeOfTest.MAPPER.createObjectNode().put("a", 1);
+    MatcherAssert.assertThat(
+      "Tree of any treed JSON is taken",
+      new TreeOf(new Shared(node)).value(),
+      Matchers.equalTo(Optional.of(node))
+    );
+  }
+
+  /**
+   * JSON, which shares its tree.
+   *
+   * @since 0.4.0
+   */
+  private static final class Shared implements Json, Treed {
+
+    /**
+     * Node.
+     */
+    private final JsonNode node;
+
+    Shared(final JsonNode nde) {
+      this.node = nde;
+    }
+
+    @Override
+    public InputStream bytes() {
+      throw new UnsupportedOperationException("Bytes are not read");
+    }
+
+    @Override
+    public Optional<JsonNode> tree() {
+      return Optional.of(this.node);
+    }
+  }
+}
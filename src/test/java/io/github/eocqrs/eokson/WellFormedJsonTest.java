@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link WellFormedJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class WellFormedJsonTest {
+
+  @Test
+  void passesWellFormedJson() {
+    MatcherAssert.assertThat(
+      "Well-formed JSON is read",
+      new String(
+        new ByteArray(new WellFormedJson(new JsonOf("{\"a\":[1,2]}"))).value()
+      ),
+      Matchers.equalTo("{\"a\":[1,2]}")
+    );
+  }
+
+  @Test
+  void rejectsMalformedJson() {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new WellFormedJson(new JsonOf("{\"a\":[1,2}")).bytes()
+    );
+  }
+
+  @Test
+  void rejectsManyValues() {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new WellFormedJson(new JsonOf("{}{}")).bytes()
+    );
+  }
+
+  @Test
+  void rejectsEmptyJson() {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> new WellFormedJson(new JsonOf("  ")).bytes()
+    );
+  }
+}
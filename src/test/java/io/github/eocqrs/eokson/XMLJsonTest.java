@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2023 Aliaksei Bialiauski, EO-CQRS
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.eocqrs.eokson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test case for {@link XMLJson}.
+ *
+ * @author Aliaksei Bialiauski (abialiauski.dev@gmail.com)
+ * @since 0.4.0
+ */
+final class XMLJsonTest {
+
+  @Test
+  void readsSameJsonAsXmlMapper() throws Exception {
+    final String xml = String.join(
+      "",
+      "<order id=\"7\"><customer><name>Jo</name></customer>",
+      "<item><sku>a</sku></item><item><sku>b</sku></item>",
+      "<total>3</total><tags><tag>x</tag><tag>y</tag></tags></order>"
+    );
+    MatcherAssert.assertThat(
+      "Same JSON as XmlMapper gives",
+      new ObjectMapper().readTree(new XMLJson(xml).bytes()),
+      Matchers.equalTo(new XmlMapper().readTree(xml))
+    );
+  }
+
+  @Test
+  void groupsRepeatedElementsIntoArray() {
+    MatcherAssert.assertThat(
+      "Repeated elements are an array",
+      new XMLJson("<r><i>1</i><i>2</i><i>3</i></r>").toString(),
+      Matchers.equalTo("{\"i\":[\"1\",\"2\",\"3\"]}")
+    );
+  }
+
+  @Test
+  void readsJocumentOverXml() {
+    MatcherAssert.assertThat(
+      "Jocument reads XML",
+      new Jocument(
+        new XMLJson("<r><a><b>deep</b></a></r>")
+      ).leaf("/a/b"),
+      Matchers.equalTo("deep")
+    );
+  }
+
+  @Test
+  void readsTextWithAttributes() throws Exception {
+    final String xml = "<r a=\"1\">text<b>2</b></r>";
+    MatcherAssert.assertThat(
+      "Text and attributes are read as XmlMapper reads them",
+      new ObjectMapper().readTree(new XMLJson(xml).bytes()),
+      Matchers.equalTo(new XmlMapper().readTree(xml))
+    );
+  }
+
+  @Test
+  void readsXmlFile() throws Exception {
+    final Path file = Files.createTempFile("eokson", ".xml");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, "<r><a>1</a></r>");
+    MatcherAssert.assertThat(
+      "XML file is read",
+      new XMLJson(file).toString(),
+      Matchers.equalTo("{\"a\":\"1\"}")
+    );
+  }
+
+  @Test
+  void readsXmlLazily() throws Exception {
+    final StringBuilder xml = new StringBuilder("<r>");
+    for (int idx = 0; idx < 10_000; ++idx) {
+      xml.append("<i>").append(idx).append("</i>");
+    }
+    xml.append("</r>");
+    final ByteArrayInputStream origin = new ByteArrayInputStream(
+      xml.toString().getBytes(StandardCharsets.UTF_8)
+    );
+    try (InputStream json = new XMLJson(origin).bytes()) {
+      json.readNBytes(16);
+      MatcherAssert.assertThat(
+        "Only the start of XML is read",
+        origin.available(),
+        Matchers.greaterThan(0)
+      );
+    }
+  }
+
+  @Test
+  void readsNonAsciiText() throws Exception {
+    final String xml = String.join(
+      "",
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+      "<r><\u00fc>\u00f6</\u00fc></r>"
+    );
+    MatcherAssert.assertThat(
+      "Non-ASCII text is read as XmlMapper reads it",
+      new ObjectMapper().readTree(new XMLJson(xml).bytes()),
+      Matchers.equalTo(new XmlMapper().readTree(xml))
+    );
+  }
+
+  @Test
+  void rejectsMalformedXml() {
+    Assertions.assertThrows(
+      UncheckedIOException.class,
+      () -> new XMLJson("<r><a></r>").toString()
+    );
+  }
+
+  @Test
+  void rejectsRepeatedElementsApart() {
+    Assertions.assertThrows(
+      UncheckedIOException.class,
+      () -> new XMLJson("<r><a>1</a><b>x</b><a>2</a></r>").toString()
+    );
+  }
+}